@@ -0,0 +1,309 @@
+package com.studentmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import java.io.File;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+// Term-start traffic against a running app (-Dapiload.url). Requests arrive at -Dapiload.rate per second as a
+// Poisson process, however slowly the server answers (an open workload), and each latency is measured from the
+// request's scheduled start rather than from when it was sent, so a stalled server shows up as latency instead of
+// as fewer requests (no coordinated omission). -Dapiload.mix weights the endpoints below (name=weight,...).
+// Prints and writes (-Dapiload.output, JSON) requests, errors, throughput and p50/p99/p99.9/max per endpoint
+public final class ApiLoadTest {
+
+    private static final String DEFAULT_MIX = "students-page=10,student=15,student-search=10,fee-summary=15," +
+            "student-fees=10,fees-by-status=5,fee-payment=10,inquiries-page=5,inquiry-create=5,dashboard-stats=10," +
+            "recent-activities=5";
+    private static final String[] FEE_STATUSES = {"Pending", "Partially Paid", "Overdue", "Paid"};
+    private static final int PAGE = 1000;
+
+    private ApiLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("apiload.url", "http://127.0.0.1:8081/api");
+        double rate = Double.parseDouble(System.getProperty("apiload.rate", "200"));
+        int seconds = Integer.getInteger("apiload.seconds", 60);
+        int warmupSeconds = Integer.getInteger("apiload.warmup-seconds", 10);
+        int maxInFlight = Integer.getInteger("apiload.max-in-flight", 2000);
+        int timeoutSeconds = Integer.getInteger("apiload.timeout-seconds", 30);
+        int sampledIds = Integer.getInteger("apiload.ids", 20_000);
+        long seed = Long.getLong("apiload.seed", 42);
+        File output = new File(System.getProperty("apiload.output", "target/api-load-result.json"));
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5)).build();
+        Load load = new Load(client, url, Duration.ofSeconds(timeoutSeconds),
+                ids(client, url + "/students?limit=" + PAGE, sampledIds),
+                ids(client, url + "/fees/status/Pending?limit=" + PAGE, sampledIds),
+                ids(client, url + "/inquiries?limit=" + PAGE, sampledIds));
+        List<Endpoint> mix = load.mix(System.getProperty("apiload.mix", DEFAULT_MIX));
+
+        System.out.printf("Warming up for %ds at %.0f req/s%n", warmupSeconds, rate);
+        load.drive(mix, rate, warmupSeconds, maxInFlight, new SplittableRandom(seed));
+        for (Endpoint endpoint : mix) {
+            endpoint.reset();
+        }
+        System.out.printf("Measuring for %ds at %.0f req/s%n", seconds, rate);
+        Instant started = Instant.now();
+        long sent = load.drive(mix, rate, seconds, maxInFlight, new SplittableRandom(seed + 1));
+        report(mix, url, rate, seconds, started, sent, output);
+    }
+
+    // Up to count ids, in id order, from a keyset-paged list endpoint
+    private static long[] ids(HttpClient client, String pageUrl, int count) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        long[] ids = new long[count];
+        int found = 0;
+        String next = pageUrl;
+        while (found < count && next != null) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(next)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(next + " returned " + response.statusCode() + "; is the app running?");
+            }
+            for (JsonNode item : mapper.readTree(response.body()).path("data")) {
+                if (found < count) {
+                    ids[found++] = item.path("id").asLong();
+                }
+            }
+            next = response.headers().firstValue("X-Next-Cursor")
+                    .map(cursor -> pageUrl + "&after=" + cursor).orElse(null);
+        }
+        if (found == 0) {
+            throw new IllegalStateException("No ids at " + pageUrl + "; start the app with sample data, " +
+                    "e.g. --sample-data.students=100000");
+        }
+        return Arrays.copyOf(ids, found);
+    }
+
+    private static void report(List<Endpoint> mix, String url, double rate, int seconds, Instant started, long sent,
+                               File output) throws Exception {
+        Histogram all = new Histogram(3);
+        long errors = 0;
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        System.out.printf("%n%-18s %9s %7s %9s %9s %9s %10s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Endpoint endpoint : mix) {
+            Histogram latencies = endpoint.latencies.getIntervalHistogram();
+            all.add(latencies);
+            errors += endpoint.errors.get();
+            endpoints.add(row(endpoint.name, endpoint.method, latencies, endpoint.errors.get(), seconds));
+        }
+        Map<String, Object> total = row("total", null, all, errors, seconds);
+        for (Map<String, Object> row : endpoints) {
+            print(row);
+        }
+        print(total);
+        long dropped = sent - all.getTotalCount();
+        if (dropped > 0) {
+            System.out.printf("%d requests were not sent: apiload.max-in-flight reached%n", dropped);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("url", url);
+        result.put("started", started.toString());
+        result.put("seconds", seconds);
+        result.put("target_rate", rate);
+        result.put("scheduled", sent);
+        result.put("dropped", dropped);
+        result.put("endpoints", endpoints);
+        result.put("total", total);
+        output.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, result);
+        System.out.println("Written to " + output);
+    }
+
+    private static Map<String, Object> row(String name, String method, Histogram latencies, long errors, int seconds) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("endpoint", name);
+        if (method != null) {
+            row.put("method", method);
+        }
+        row.put("requests", latencies.getTotalCount());
+        row.put("errors", errors);
+        row.put("throughput", latencies.getTotalCount() / (double) seconds);
+        row.put("p50_ms", millis(latencies.getValueAtPercentile(50)));
+        row.put("p99_ms", millis(latencies.getValueAtPercentile(99)));
+        row.put("p999_ms", millis(latencies.getValueAtPercentile(99.9)));
+        row.put("max_ms", millis(latencies.getMaxValue()));
+        return row;
+    }
+
+    private static void print(Map<String, Object> row) {
+        System.out.printf("%-18s %9d %7d %9.1f %9.1f %9.1f %10.1f %9.1f%n", row.get("endpoint"), row.get("requests"),
+                row.get("errors"), row.get("throughput"), row.get("p50_ms"), row.get("p99_ms"), row.get("p999_ms"),
+                row.get("max_ms"));
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1e4) / 100.0;
+    }
+
+    private static final class Load {
+        private final HttpClient client;
+        private final String baseUrl;
+        private final Duration timeout;
+        private final long[] studentIds;
+        private final long[] pendingFeeIds;
+        private final long[] inquiryIds;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong inquirySequence = new AtomicLong();
+
+        private Load(HttpClient client, String baseUrl, Duration timeout, long[] studentIds, long[] pendingFeeIds,
+                     long[] inquiryIds) {
+            this.client = client;
+            this.baseUrl = baseUrl;
+            this.timeout = timeout;
+            this.studentIds = studentIds;
+            this.pendingFeeIds = pendingFeeIds;
+            this.inquiryIds = inquiryIds;
+        }
+
+        private List<Endpoint> mix(String spec) {
+            Map<String, Function<SplittableRandom, HttpRequest>> requests = new LinkedHashMap<>();
+            requests.put("students-page", r -> get("/students?after=" + (pick(r, studentIds) - 1) + "&limit=20"));
+            requests.put("student", r -> get("/students/" + pick(r, studentIds)));
+            requests.put("student-search", r -> get("/students/search?limit=20&q=" +
+                    BenchmarkApplication.LAST_NAMES[r.nextInt(BenchmarkApplication.LAST_NAMES.length)].toLowerCase()));
+            requests.put("fee-summary", r -> get("/students/" + pick(r, studentIds) + "/fee-summary"));
+            requests.put("student-fees", r -> get("/fees/student/" + pick(r, studentIds)));
+            requests.put("fees-by-status", r -> get("/fees/status/" +
+                    URLEncoder.encode(FEE_STATUSES[r.nextInt(FEE_STATUSES.length)], StandardCharsets.UTF_8)
+                            .replace("+", "%20") + "?limit=20"));
+            requests.put("fee-payment", r -> post("/fees/" + pick(r, pendingFeeIds) + "/payment",
+                    "{\"amount\": 0.01, \"paymentMethod\": \"Card\"}"));
+            requests.put("inquiries-page", r -> get("/inquiries?after=" + (pick(r, inquiryIds) - 1) + "&limit=20"));
+            requests.put("inquiry-create", r -> {
+                long n = inquirySequence.incrementAndGet();
+                return post("/inquiries", "{\"name\": \"Load Test\", \"email\": \"load." + n + "@example.org\", " +
+                        "\"phone\": \"+1555" + String.format("%07d", n % 10_000_000) + "\", \"subject\": \"Admission\", " +
+                        "\"message\": \"When does the term start?\"}");
+            });
+            requests.put("dashboard-stats", r -> get("/dashboard/stats"));
+            requests.put("recent-activities", r -> get("/dashboard/recent-activities"));
+
+            List<Endpoint> mix = new ArrayList<>();
+            for (String entry : spec.split(",")) {
+                String[] parts = entry.trim().split("=");
+                Function<SplittableRandom, HttpRequest> request = requests.get(parts[0]);
+                if (request == null || parts.length != 2) {
+                    throw new IllegalArgumentException("Unknown mix entry " + entry + " (expected name=weight, " +
+                            "names: " + String.join(", ", requests.keySet()) + ")");
+                }
+                mix.add(new Endpoint(parts[0], Integer.parseInt(parts[1]), request));
+            }
+            return mix;
+        }
+
+        // Schedules requests for the given time and waits for the last answers; returns how many were scheduled
+        private long drive(List<Endpoint> mix, double rate, int seconds, int maxInFlight, SplittableRandom random)
+                throws InterruptedException {
+            int totalWeight = mix.stream().mapToInt(endpoint -> endpoint.weight).sum();
+            long start = System.nanoTime();
+            long end = start + TimeUnit.SECONDS.toNanos(seconds);
+            double offset = 0;
+            long scheduled = 0;
+            while (true) {
+                // Exponential gaps between arrivals
+                offset += -Math.log(1 - random.nextDouble()) * 1e9 / rate;
+                long intended = start + (long) offset;
+                if (intended >= end) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Endpoint endpoint = pick(mix, totalWeight, random);
+                HttpRequest request = endpoint.request.apply(random);
+                scheduled++;
+                if (inFlight.get() >= maxInFlight) {
+                    continue;
+                }
+                inFlight.incrementAndGet();
+                client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                    endpoint.latencies.recordValue(Math.max(0, System.nanoTime() - intended));
+                    if (failure != null || response.statusCode() >= 400) {
+                        endpoint.errors.incrementAndGet();
+                    }
+                    inFlight.decrementAndGet();
+                });
+            }
+            long deadline = System.nanoTime() + timeout.toNanos() + TimeUnit.SECONDS.toNanos(5);
+            while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return scheduled;
+        }
+
+        private static Endpoint pick(List<Endpoint> mix, int totalWeight, SplittableRandom random) {
+            int draw = random.nextInt(totalWeight);
+            for (Endpoint endpoint : mix) {
+                draw -= endpoint.weight;
+                if (draw < 0) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalStateException();
+        }
+
+        private static long pick(SplittableRandom random, long[] ids) {
+            return ids[random.nextInt(ids.length)];
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout).GET().build();
+        }
+
+        private HttpRequest post(String path, String json) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+    }
+
+    // Latencies are recorded from the HTTP client's threads
+    private static final class Endpoint {
+        private final String name;
+        private final int weight;
+        private final Function<SplittableRandom, HttpRequest> request;
+        private final String method;
+        private final Recorder latencies = new Recorder(3);
+        private final AtomicLong errors = new AtomicLong();
+
+        private Endpoint(String name, int weight, Function<SplittableRandom, HttpRequest> request) {
+            this.name = name;
+            this.weight = weight;
+            this.request = request;
+            this.method = request.apply(new SplittableRandom(0)).method();
+        }
+
+        private void reset() {
+            latencies.reset();
+            errors.set(0);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.studentmanagement.benchmark;
+
+import com.studentmanagement.StudentManagementApplication;
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.FeeType;
+import com.studentmanagement.model.InquiryStatus;
+import com.studentmanagement.model.StudentStatus;
+import com.studentmanagement.repository.PooledIdAllocator;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+// Boots the application against a private in-memory H2, without a web server unless asked for one
+final class BenchmarkApplication {
+
+    static final String[] FIRST_NAMES = {
+        "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+        "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Carlos", "Priya"
+    };
+    static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Patel", "Nguyen"
+    };
+    static final String[] COURSES = {
+        "Computer Science", "Business Administration", "Engineering", "Mathematics", "Physics",
+        "Biology", "Economics", "Psychology", "Law", "Medicine"
+    };
+
+    static final FeeType[] FEE_TYPES = {FeeType.TUITION, FeeType.LIBRARY, FeeType.LAB, FeeType.EXAM, FeeType.HOSTEL};
+
+    private static final int BATCH_SIZE = 1000;
+
+    private BenchmarkApplication() {}
+
+    static ConfigurableApplicationContext start(String... extraArgs) {
+        return start(WebApplicationType.NONE, extraArgs);
+    }
+
+    static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... extraArgs) {
+        // devtools is on the runtime classpath; its restarter would re-invoke the caller's main method
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        List<String> args = new ArrayList<>(List.of(
+            "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.studentmanagement=WARN",
+            "--logging.level.org.springframework.web=WARN"));
+        for (String arg : extraArgs) {
+            // A later --key=value replaces the default rather than being joined to it
+            String key = arg.contains("=") ? arg.substring(0, arg.indexOf('=') + 1) : arg;
+            args.removeIf(existing -> existing.startsWith(key));
+            args.add(arg);
+        }
+        return new SpringApplicationBuilder(StudentManagementApplication.class)
+                .web(webApplicationType)
+                // Passed as arguments so they win over application.properties
+                .run(args.toArray(new String[0]));
+    }
+
+    static void seedStudents(JdbcTemplate jdbcTemplate, int count) {
+        Random random = new Random(42);
+        Timestamp enrolled = Timestamp.valueOf(LocalDateTime.now());
+        PooledIdAllocator ids = PooledIdAllocator.students(jdbcTemplate);
+        String sql = "INSERT INTO students (id, first_name, last_name, email, phone, date_of_birth, gender, " +
+                "address, course, enrollment_date, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            batch.add(new Object[] {
+                ids.nextId(), first, last, (first + "." + last + "." + i + "@example.com").toLowerCase(),
+                "+1" + (5550000000L + i), "2000-01-01", i % 2 == 0 ? "Female" : "Male",
+                i + " Main St", COURSES[random.nextInt(COURSES.length)], enrolled, StudentStatus.ACTIVE.getCode()
+            });
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    static void seedInquiries(JdbcTemplate jdbcTemplate, int count) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        String sql = "INSERT INTO inquiries (name, email, phone, subject, message, status, created_date) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            batch.add(new Object[] {
+                first + " " + last, (first + "." + last + "." + i + "@example.org").toLowerCase(),
+                "+1" + (5560000000L + i), "Admission", "Question about " + COURSES[random.nextInt(COURSES.length)],
+                (random.nextInt(4) == 0 ? InquiryStatus.PENDING : InquiryStatus.RESPONDED).getCode(), Timestamp.valueOf(now.minusMinutes(count - i))
+            });
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    // perStudent fees for every student; roughly a third paid, a third partially paid, a third pending
+    static void seedFees(JdbcTemplate jdbcTemplate, int perStudent) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        PooledIdAllocator ids = PooledIdAllocator.fees(jdbcTemplate);
+        String sql = "INSERT INTO fees (id, student_id, fee_type, amount, paid_amount, status, due_date, " +
+                "created_date, paid_date, payment_method, transaction_id, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (Long studentId : jdbcTemplate.queryForList("SELECT id FROM students ORDER BY id", Long.class)) {
+            for (int i = 0; i < perStudent; i++) {
+                BigDecimal amount = BigDecimal.valueOf(100 + random.nextInt(5000));
+                int state = random.nextInt(3);
+                BigDecimal paid = state == 0 ? amount : state == 1 ? amount.divide(BigDecimal.valueOf(2)) : BigDecimal.ZERO;
+                boolean anyPaid = state != 2;
+                batch.add(new Object[] {
+                    ids.nextId(), studentId, FEE_TYPES[random.nextInt(FEE_TYPES.length)].getCode(), amount, paid,
+                    (state == 0 ? FeeStatus.PAID : state == 1 ? FeeStatus.PARTIALLY_PAID : FeeStatus.PENDING).getCode(),
+                    Timestamp.valueOf(now.plusDays(random.nextInt(90))), Timestamp.valueOf(now),
+                    anyPaid ? Timestamp.valueOf(now) : null, anyPaid ? "Card" : null,
+                    anyPaid ? UUID.randomUUID().toString() : null
+                });
+                if (batch.size() == BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(sql, batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+        // One ledger entry per paid fee, as the V4 migration backfills them
+        jdbcTemplate.update("INSERT INTO payments (id, fee_id, student_id, amount, payment_method, transaction_id, " +
+                "paid_date, paid_amount_after) SELECT NEXT VALUE FOR payments_seq, f.id, f.student_id, f.paid_amount, " +
+                "f.payment_method, f.transaction_id, f.paid_date, f.paid_amount FROM fees f WHERE f.paid_amount > 0 " +
+                "AND NOT EXISTS (SELECT 1 FROM payments p WHERE p.fee_id = f.id)");
+    }
+}
@@ -0,0 +1,81 @@
+package com.studentmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Compares two JMH JSON result files; exits with 1 when any benchmark regressed beyond both error margins
+public final class CompareResults {
+
+    private CompareResults() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <current.json>");
+            System.exit(2);
+        }
+        Map<String, JsonNode> baseline = load(new File(args[0]));
+        Map<String, JsonNode> current = load(new File(args[1]));
+
+        boolean regressed = false;
+        System.out.printf("%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue();
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode metric = now.get("primaryMetric");
+            String unit = metric.get("scoreUnit").asText();
+            if (before == null) {
+                System.out.printf("%-70s %14s %14s %9s%n", entry.getKey(), "-", format(metric, unit), "new");
+                continue;
+            }
+
+            JsonNode previous = before.get("primaryMetric");
+            double was = previous.get("score").asDouble();
+            double is = metric.get("score").asDouble();
+            // Throughput is better when higher; every time-per-op mode is better when lower
+            boolean higherIsBetter = "thrpt".equals(now.get("mode").asText());
+            double change = was != 0 ? (is - was) / was * 100 : 0;
+            double margin = error(previous) + error(metric);
+            boolean worse = higherIsBetter ? is < was - margin : is > was + margin;
+            regressed |= worse;
+
+            System.out.printf("%-70s %14s %14s %+8.1f%%%s%n", entry.getKey(), format(previous, unit),
+                    format(metric, unit), change, worse ? "  REGRESSION" : "");
+        }
+        if (regressed) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.get("benchmark").asText()
+                    .replace("com.studentmanagement.benchmark.", ""));
+            JsonNode params = result.get("params");
+            if (params != null) {
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    // JMH reports NaN as the error of a single-iteration run
+    private static double error(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    private static String format(JsonNode metric, String unit) {
+        return String.format("%.3f %s", metric.get("score").asDouble(), unit);
+    }
+}
@@ -0,0 +1,87 @@
+package com.studentmanagement.benchmark;
+
+import com.studentmanagement.dto.DashboardStatsDto;
+import com.studentmanagement.service.DashboardService;
+import com.studentmanagement.service.DashboardStatsCounters;
+import com.studentmanagement.service.FeeService;
+import com.studentmanagement.service.InquiryService;
+import com.studentmanagement.service.ParallelQueryExecutor;
+import com.studentmanagement.service.StudentService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.concurrent.TimeUnit;
+
+// Counter snapshot served by getDashboardStats vs. the four aggregate queries it replaced, run one after
+// another and fanned out on ParallelQueryExecutor (the cold-start and reconcile path)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class DashboardStatsBenchmark {
+
+    @Param({"100000"})
+    private int students;
+
+    @Param({"3"})
+    private int feesPerStudent;
+
+    private ConfigurableApplicationContext context;
+    private DashboardService dashboardService;
+    private StudentService studentService;
+    private FeeService feeService;
+    private InquiryService inquiryService;
+    private ParallelQueryExecutor queryExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        BenchmarkApplication.seedStudents(jdbcTemplate, students);
+        BenchmarkApplication.seedFees(jdbcTemplate, feesPerStudent);
+        context.getBean(DashboardStatsCounters.class).reconcile();
+
+        dashboardService = context.getBean(DashboardService.class);
+        studentService = context.getBean(StudentService.class);
+        feeService = context.getBean(FeeService.class);
+        inquiryService = context.getBean(InquiryService.class);
+        queryExecutor = context.getBean(ParallelQueryExecutor.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DashboardStatsDto getDashboardStats() {
+        return dashboardService.getDashboardStats();
+    }
+
+    @Benchmark
+    public void aggregateQueries(Blackhole blackhole) {
+        blackhole.consume(studentService.getTotalActiveStudents());
+        blackhole.consume(studentService.getNewAdmissionsThisMonth());
+        blackhole.consume(feeService.getTotalFeesCollected());
+        blackhole.consume(inquiryService.getPendingInquiriesCount());
+    }
+
+    @Benchmark
+    public void parallelAggregates(Blackhole blackhole) {
+        ParallelQueryExecutor.Batch batch = queryExecutor.batch()
+                .submit("totalStudents", studentService::getTotalActiveStudents)
+                .submit("newAdmissions", studentService::getNewAdmissionsThisMonth)
+                .submit("feesCollected", feeService::getTotalFeesCollected)
+                .submit("pendingInquiries", inquiryService::getPendingInquiriesCount);
+        blackhole.consume(batch.get("totalStudents"));
+        blackhole.consume(batch.get("newAdmissions"));
+        blackhole.consume(batch.get("feesCollected"));
+        blackhole.consume(batch.get("pendingInquiries"));
+        if (!batch.isComplete()) {
+            throw new IllegalStateException("Aggregates missed the deadline: " + batch.getStale());
+        }
+    }
+}
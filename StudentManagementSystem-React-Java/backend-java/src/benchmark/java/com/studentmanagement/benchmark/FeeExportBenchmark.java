@@ -0,0 +1,102 @@
+package com.studentmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentmanagement.controller.FeeController;
+import com.studentmanagement.dto.ApiResponse;
+import com.studentmanagement.service.FeeService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+// A full fee export through the export endpoint's streaming body vs. GET /fees (load every Fee, serialize one
+// array). Run with -prof gc to compare allocation per export; the export's live heap stays flat as rows grow
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class FeeExportBenchmark {
+
+    @Param({"50000"})
+    private int students;
+
+    @Param({"2"})
+    private int feesPerStudent;
+
+    private ConfigurableApplicationContext context;
+    private FeeController feeController;
+    private FeeService feeService;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        BenchmarkApplication.seedStudents(jdbcTemplate, students);
+        BenchmarkApplication.seedFees(jdbcTemplate, feesPerStudent);
+        jdbcTemplate.execute("ANALYZE");
+
+        feeController = context.getBean(FeeController.class);
+        feeService = context.getBean(FeeService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long csvExport(Blackhole blackhole) throws IOException {
+        return export("csv", null, blackhole);
+    }
+
+    @Benchmark
+    public long ndjsonExport(Blackhole blackhole) throws IOException {
+        return export("ndjson", null, blackhole);
+    }
+
+    @Benchmark
+    public long gzipCsvExport(Blackhole blackhole) throws IOException {
+        return export("csv", "gzip", blackhole);
+    }
+
+    @Benchmark
+    public long jsonList(Blackhole blackhole) throws IOException {
+        CountingSink sink = new CountingSink(blackhole);
+        objectMapper.writeValue(sink, ApiResponse.success(feeService.getAllFees(), "Fees retrieved successfully"));
+        return sink.bytes;
+    }
+
+    private long export(String format, String acceptEncoding, Blackhole blackhole) throws IOException {
+        CountingSink sink = new CountingSink(blackhole);
+        feeController.exportFees(format, null, null, null, acceptEncoding).getBody().writeTo(sink);
+        return sink.bytes;
+    }
+
+    // Stands in for the servlet output stream
+    private static final class CountingSink extends OutputStream {
+        private final Blackhole blackhole;
+        private long bytes;
+
+        private CountingSink(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+            bytes += len;
+        }
+    }
+}
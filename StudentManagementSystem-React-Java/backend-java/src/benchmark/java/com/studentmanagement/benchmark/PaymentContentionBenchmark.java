@@ -0,0 +1,95 @@
+package com.studentmanagement.benchmark;
+
+import com.studentmanagement.dto.PaymentRequestDto;
+import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.FeeType;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.repository.FeeRepository;
+import com.studentmanagement.repository.StudentRepository;
+import com.studentmanagement.service.FeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Many threads paying into a few fees; the trial fails if any accepted payment is missing from paidAmount
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(64)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class PaymentContentionBenchmark {
+
+    private static final BigDecimal PAYMENT = new BigDecimal("1.00");
+    private static final String REPLAYED_KEY = "replayed-payment";
+
+    // 1 = every thread on the same fee; larger values spread the load across lock stripes
+    @Param({"1", "16"})
+    private int fees;
+
+    private ConfigurableApplicationContext context;
+    private FeeService feeService;
+    private FeeRepository feeRepository;
+    private long[] feeIds;
+    private AtomicLongArray accepted;
+    private final AtomicLong keys = new AtomicLong();
+    private PaymentRequestDto request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        feeService = context.getBean(FeeService.class);
+        feeRepository = context.getBean(FeeRepository.class);
+        BenchmarkApplication.seedStudents(context.getBean(JdbcTemplate.class), 1);
+        Student student = context.getBean(StudentRepository.class)
+                .findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1)).get(0);
+
+        feeIds = new long[fees];
+        accepted = new AtomicLongArray(fees);
+        for (int i = 0; i < fees; i++) {
+            Fee fee = new Fee(student, FeeType.TUITION, new BigDecimal("1000000000.00"), LocalDateTime.now().plusMonths(1));
+            feeIds[i] = feeService.createFee(fee).getId();
+        }
+        request = new PaymentRequestDto(PAYMENT, "Card");
+        feeService.processPayment(feeIds[0], request, REPLAYED_KEY);
+        accepted.incrementAndGet(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        try {
+            for (int i = 0; i < fees; i++) {
+                BigDecimal paid = feeRepository.findById(feeIds[i]).orElseThrow().getPaidAmount();
+                BigDecimal expected = PAYMENT.multiply(BigDecimal.valueOf(accepted.get(i)));
+                if (paid.compareTo(expected) != 0) {
+                    throw new IllegalStateException("Fee " + feeIds[i] + " lost updates: paid " + paid
+                            + " but " + expected + " was accepted");
+                }
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public Fee pay() {
+        int slot = ThreadLocalRandom.current().nextInt(fees);
+        Fee fee = feeService.processPayment(feeIds[slot], request, "payment-" + keys.incrementAndGet());
+        accepted.incrementAndGet(slot);
+        return fee;
+    }
+
+    // A client retry: must return the fee without charging it again
+    @Benchmark
+    public Fee replay() {
+        return feeService.processPayment(feeIds[0], request, REPLAYED_KEY);
+    }
+}
@@ -0,0 +1,203 @@
+package com.studentmanagement.benchmark;
+
+import com.studentmanagement.model.FeeStatus;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Drives the HTTP API with a fixed number of concurrent clients in each execution mode (platform thread pool
+// vs. virtual threads with JDBC admission control) and reports throughput and latency percentiles side by side
+public final class RequestModeLoadTest {
+
+    private static final int WARMUP_SECONDS = 10;
+
+    private RequestModeLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        List<String> modes = Arrays.asList((args.length > 0 ? args[0] : "platform,virtual").split(","));
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        int students = args.length > 3 ? Integer.parseInt(args[3]) : 10000;
+        if (modes.contains("virtual") && Runtime.version().feature() < 21) {
+            System.err.println("virtual mode needs Java 21; build and run with mvn -Pjava21,benchmark");
+            System.exit(2);
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (String mode : modes) {
+            results.add(run(mode, concurrency, seconds, students));
+        }
+
+        System.out.printf("%n%-9s %11s %8s %10s %9s %9s %9s %9s %9s%n",
+                "Mode", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Result result : results) {
+            System.out.printf("%-9s %11d %8d %10.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n", result.mode,
+                    result.latencies.length, result.errors, result.latencies.length / (double) seconds,
+                    result.percentile(50), result.percentile(95), result.percentile(99), result.percentile(99.9),
+                    result.percentile(100));
+        }
+    }
+
+    private static Result run(String mode, int concurrency, int seconds, int students) throws Exception {
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--management.server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "--logging.level.org.apache.catalina=WARN"));
+        if (mode.equals("virtual")) {
+            args.add("--spring.profiles.active=virtual-threads");
+        } else if (!mode.equals("platform")) {
+            throw new IllegalArgumentException("Unknown mode: " + mode + " (expected platform or virtual)");
+        }
+
+        ConfigurableApplicationContext context = BenchmarkApplication.start(WebApplicationType.SERVLET,
+                args.toArray(new String[0]));
+        try {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            BenchmarkApplication.seedStudents(jdbcTemplate, students);
+            BenchmarkApplication.seedFees(jdbcTemplate, 2);
+            long[] studentIds = jdbcTemplate.queryForList("SELECT id FROM students", Long.class)
+                    .stream().mapToLong(Long::longValue).toArray();
+            long[] feeIds = jdbcTemplate.queryForList("SELECT id FROM fees WHERE status = " + FeeStatus.PENDING.getCode(), Long.class)
+                    .stream().mapToLong(Long::longValue).toArray();
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Load load = new Load("http://localhost:" + port + "/api", studentIds, feeIds);
+            System.out.printf("%s: warming up for %ds with %d clients%n", mode, WARMUP_SECONDS, concurrency);
+            load.drive(concurrency, WARMUP_SECONDS);
+            System.out.printf("%s: measuring for %ds%n", mode, seconds);
+            return new Result(mode, load.drive(concurrency, seconds));
+        } finally {
+            context.close();
+        }
+    }
+
+    // A mix of paged reads, per-student summaries, dashboard polls and small payments, all hitting JDBC
+    private static final class Load {
+        private final String baseUrl;
+        private final long[] studentIds;
+        private final long[] feeIds;
+        private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+
+        private Load(String baseUrl, long[] studentIds, long[] feeIds) {
+            this.baseUrl = baseUrl;
+            this.studentIds = studentIds;
+            this.feeIds = feeIds;
+        }
+
+        private Client[] drive(int concurrency, int seconds) throws Exception {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            Client[] clients = new Client[concurrency];
+            CompletableFuture<?>[] done = new CompletableFuture<?>[concurrency];
+            for (int i = 0; i < concurrency; i++) {
+                clients[i] = new Client();
+                done[i] = loop(clients[i], deadline);
+            }
+            CompletableFuture.allOf(done).get(seconds + 120L, TimeUnit.SECONDS);
+            return clients;
+        }
+
+        // Each client issues its next request as soon as the previous one completes (closed model)
+        private CompletableFuture<Void> loop(Client client, long deadline) {
+            if (System.nanoTime() >= deadline) {
+                return CompletableFuture.completedFuture(null);
+            }
+            long start = System.nanoTime();
+            return send(nextRequest())
+                    .handle((status, failure) -> {
+                        client.record(System.nanoTime() - start, failure == null && status < 400);
+                        return null;
+                    })
+                    .thenCompose(ignored -> loop(client, deadline));
+        }
+
+        private CompletableFuture<Integer> send(HttpRequest request) {
+            return client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenApply(HttpResponse::statusCode);
+        }
+
+        private HttpRequest nextRequest() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int pick = random.nextInt(100);
+            long studentId = studentIds[random.nextInt(studentIds.length)];
+            if (pick < 40) {
+                return get("/students?after=" + (studentId - 1) + "&limit=20");
+            } else if (pick < 60) {
+                return get("/students/" + studentId + "/fee-summary");
+            } else if (pick < 80) {
+                return get("/dashboard/stats");
+            }
+            long feeId = feeIds[random.nextInt(feeIds.length)];
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/fees/" + feeId + "/payment"))
+                    .timeout(Duration.ofSeconds(60))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"amount\": 0.01, \"paymentMethod\": \"Card\"}"))
+                    .build();
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60)).GET().build();
+        }
+    }
+
+    // Requests of one client are sequential, so its samples need no synchronization
+    private static final class Client {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        private void record(long nanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+    }
+
+    private static final class Result {
+        private final String mode;
+        private final long[] latencies;
+        private final int errors;
+
+        private Result(String mode, Client[] clients) {
+            this.mode = mode;
+            int total = 0;
+            int failed = 0;
+            for (Client client : clients) {
+                total += client.count;
+                failed += client.errors;
+            }
+            long[] all = new long[total];
+            int offset = 0;
+            for (Client client : clients) {
+                System.arraycopy(client.latencies, 0, all, offset, client.count);
+                offset += client.count;
+            }
+            Arrays.sort(all);
+            this.latencies = all;
+            this.errors = failed;
+        }
+
+        private double percentile(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(index, latencies.length - 1))] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.studentmanagement.benchmark;
+
+import com.studentmanagement.service.SyntheticDataGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.io.File;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+// One full-size synthetic data load (sample-data.students) into an empty file database per iteration, with the
+// generator's default worker count. The generator itself is checked by SyntheticDataGeneratorTest
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class SampleDataLoadBenchmark {
+
+    @Param({"1000000"})
+    private int students;
+
+    @Param({"5"})
+    private int feesPerStudent;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        File dataDir = new File("target/sample-data-db").getAbsoluteFile();
+        for (File file : Objects.requireNonNullElse(dataDir.listFiles(), new File[0])) {
+            file.delete();
+        }
+        context = BenchmarkApplication.start(
+                "--spring.datasource.url=jdbc:h2:file:" + dataDir + "/studentdb;DB_CLOSE_ON_EXIT=FALSE",
+                "--sample-data.enabled=false",
+                "--sample-data.students=" + students,
+                "--sample-data.fees-per-student=" + feesPerStudent);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void load() {
+        context.getBean(SyntheticDataGenerator.class).generate();
+    }
+}
@@ -0,0 +1,118 @@
+package com.studentmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentmanagement.dto.ApiResponse;
+import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.Inquiry;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.repository.FeeRepository;
+import com.studentmanagement.repository.InquiryRepository;
+import com.studentmanagement.repository.StudentRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// Jackson cost of the list responses in each wire format, using the mappers the application's message converters
+// use, with and without the Blackbird module. Prints each payload's size, plain and gzipped, once per trial
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class SerializationBenchmark {
+
+    // Rows per response: a default keyset page and the maximum one
+    @Param({"50", "1000"})
+    private int rows;
+
+    // Accept: application/json, application/cbor or application/x-jackson-smile
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"true", "false"})
+    private boolean blackbird;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<Student>> studentResponse;
+    private ApiResponse<List<Inquiry>> inquiryResponse;
+    private List<Fee> fees;
+    private byte[] studentBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkApplication.start("--jackson.blackbird.enabled=" + blackbird);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        BenchmarkApplication.seedStudents(jdbcTemplate, rows);
+        BenchmarkApplication.seedFees(jdbcTemplate, 1);
+        BenchmarkApplication.seedInquiries(jdbcTemplate, rows);
+
+        objectMapper = switch (format) {
+            case "json" -> context.getBean(ObjectMapper.class);
+            case "cbor" -> context.getBean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper();
+            case "smile" -> context.getBean(MappingJackson2SmileHttpMessageConverter.class).getObjectMapper();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        List<Student> students = context.getBean(StudentRepository.class)
+                .findByIdGreaterThanOrderByIdAsc(0L, Limit.of(rows));
+        studentResponse = ApiResponse.success(students, "Students retrieved successfully");
+        inquiryResponse = ApiResponse.success(context.getBean(InquiryRepository.class)
+                .findByIdLessThanOrderByIdDesc(Long.MAX_VALUE, Limit.of(rows)), "Inquiries retrieved successfully");
+        fees = context.getBean(FeeRepository.class).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(rows));
+        studentBytes = objectMapper.writeValueAsBytes(studentResponse);
+
+        for (Object payload : new Object[] {studentResponse, fees, inquiryResponse}) {
+            byte[] bytes = objectMapper.writeValueAsBytes(payload);
+            System.out.printf("%n%-5s %-9s %,10d bytes, %,10d gzipped%n", format,
+                    payload == fees ? "fees" : payload == studentResponse ? "students" : "inquiries",
+                    bytes.length, gzip(bytes).length);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] studentResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(studentResponse);
+    }
+
+    @Benchmark
+    public byte[] feeList() throws IOException {
+        return objectMapper.writeValueAsBytes(fees);
+    }
+
+    @Benchmark
+    public byte[] inquiryResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(inquiryResponse);
+    }
+
+    // What a client without the entity classes pays to read a page
+    @Benchmark
+    public JsonNode parseStudentResponse() throws IOException {
+        return objectMapper.readTree(studentBytes);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,178 @@
+package com.studentmanagement.benchmark;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Restart time on the durable profile: a file database with -Dstartup.students students (one fee each) is seeded
+// once, then the app is started in a fresh JVM per run and variant. The clock starts at process launch. Reports
+// when the readiness probe went UP, when the first request completed (time to first request), and the latency of
+// the first requests after that; each result is also appended to -Dstartup.history to track them over builds.
+// Variants (-Dstartup.variants): cold (no warm-up) and warm run from the build classpath; jar, lazy, aot, cds and
+// fast-start (all three) need the jar and archive built by mvn -Pfast-start package
+public final class StartupBenchmark {
+
+    private static final String APP_URL = "http://127.0.0.1:8081/api";
+    private static final String READINESS_URL = "http://127.0.0.1:9091/actuator/health/readiness";
+    private static final String[] PATHS = {
+        "/students?limit=50", "/students/search?q=smith&limit=20", "/fees?limit=50",
+        "/fees/status/Pending?limit=50", "/dashboard/stats", "/students/%d", "/fees/student/%d"
+    };
+    private static final int REQUESTS = 200;
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private StartupBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        int students = Integer.getInteger("startup.students", 1_000_000);
+        int runs = Integer.getInteger("startup.runs", 3);
+        File dataDir = new File(System.getProperty("startup.data-dir", "target/startup-db")).getAbsoluteFile();
+        List<String> jvmArgs = Arrays.asList(System.getProperty("startup.jvm-args", "-Xms2g -Xmx2g").split(" "));
+        String[] variants = System.getProperty("startup.variants", "cold,warm").split(",");
+        File history = new File(System.getProperty("startup.history", "target/startup-history.csv"));
+
+        seed(dataDir, students);
+        System.out.printf("%n%-10s %12s %16s %14s %14s %14s%n",
+                "variant", "ready (ms)", "first req (ms)", "p50 (ms)", "p99 (ms)", "max (ms)");
+        for (String variant : variants) {
+            for (int run = 0; run < runs; run++) {
+                List<String> command = new ArrayList<>();
+                command.add(System.getProperty("java.home") + "/bin/java");
+                command.addAll(jvmArgs);
+                command.addAll(launch(variant.trim()));
+                command.addAll(List.of(
+                        "--durable.data-dir=" + dataDir,
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.studentmanagement.config.StartupWarmup=INFO"));
+                String result = measure(command, variant.trim(), students);
+                record(history, variant.trim(), students, result);
+            }
+        }
+    }
+
+    // JVM options, main class or jar, and profile arguments for each variant
+    private static List<String> launch(String variant) {
+        String jar = System.getProperty("startup.jar", "target/student-management-api-0.0.1-SNAPSHOT.jar");
+        String archive = "-XX:SharedArchiveFile=" + System.getProperty("startup.cds-archive", "target/app.jsa");
+        String aot = "-Dspring.aot.enabled=true";
+        String durable = "--spring.profiles.active=durable";
+        String fastStart = "--spring.profiles.active=durable,fast-start";
+        String eager = "--spring.main.lazy-initialization=false";
+        return switch (variant) {
+            case "cold" -> List.of("-Dspring.devtools.restart.enabled=false", "-cp", System.getProperty("java.class.path"),
+                    "com.studentmanagement.StudentManagementApplication", durable, "--startup.warmup.enabled=false");
+            case "warm" -> List.of("-Dspring.devtools.restart.enabled=false", "-cp", System.getProperty("java.class.path"),
+                    "com.studentmanagement.StudentManagementApplication", durable);
+            case "jar" -> List.of("-jar", jar, durable);
+            case "lazy" -> List.of("-jar", jar, fastStart);
+            case "aot" -> List.of(aot, "-jar", jar, fastStart, eager);
+            case "cds" -> List.of(archive, "-jar", jar, durable);
+            case "fast-start" -> List.of(archive, aot, "-jar", jar, fastStart);
+            default -> throw new IllegalArgumentException("Unknown variant " + variant);
+        };
+    }
+
+    private static void seed(File dataDir, int students) {
+        if (new File(dataDir, "studentdb.mv.db").exists()) {
+            System.out.println("Reusing " + dataDir + " (delete it to reseed)");
+            return;
+        }
+        long started = System.nanoTime();
+        ConfigurableApplicationContext context = BenchmarkApplication.start(
+                "--spring.profiles.active=durable",
+                "--spring.datasource.url=jdbc:h2:file:" + dataDir + "/studentdb;DB_CLOSE_ON_EXIT=FALSE",
+                "--startup.warmup.enabled=false");
+        try {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            BenchmarkApplication.seedStudents(jdbcTemplate, students);
+            BenchmarkApplication.seedFees(jdbcTemplate, 1);
+            jdbcTemplate.execute("ANALYZE");
+        } finally {
+            context.close();
+        }
+        System.out.printf("Seeded %d students in %d s%n", students, (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    private static String measure(List<String> command, String variant, int students) throws Exception {
+        File log = new File("target/startup-" + variant + ".log");
+        long launched = System.nanoTime();
+        Process app = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log).start();
+        try {
+            while (!ready()) {
+                if (!app.isAlive()) {
+                    throw new IllegalStateException("App exited during startup, see " + log);
+                }
+                Thread.sleep(10);
+            }
+            long readyAt = System.nanoTime();
+
+            long[] latencies = new long[REQUESTS];
+            for (int i = 0; i < REQUESTS; i++) {
+                String path = PATHS[i % PATHS.length];
+                if (path.contains("%d")) {
+                    // Spread over the table rather than re-reading one row
+                    path = String.format(path, 1 + (long) i * 4999 % students);
+                }
+                long started = System.nanoTime();
+                HttpResponse<Void> response = CLIENT.send(HttpRequest.newBuilder(URI.create(APP_URL + path)).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                latencies[i] = System.nanoTime() - started;
+                if (response.statusCode() >= 500) {
+                    throw new IllegalStateException(path + " returned " + response.statusCode());
+                }
+            }
+            long firstDone = readyAt + latencies[0];
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            System.out.printf("%-10s %12d %16d %14.1f %14.1f %14.1f%n", variant,
+                    millis(readyAt - launched), millis(firstDone - launched),
+                    sorted[REQUESTS / 2] / 1e6, sorted[REQUESTS * 99 / 100] / 1e6, sorted[REQUESTS - 1] / 1e6);
+            return String.format(Locale.ROOT, "%d,%d,%.1f,%.1f,%.1f", millis(readyAt - launched),
+                    millis(firstDone - launched), sorted[REQUESTS / 2] / 1e6, sorted[REQUESTS * 99 / 100] / 1e6,
+                    sorted[REQUESTS - 1] / 1e6);
+        } finally {
+            app.destroy();
+            if (!app.waitFor(60, TimeUnit.SECONDS)) {
+                app.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static void record(File history, String variant, int students, String result) throws IOException {
+        boolean created = !history.exists();
+        try (PrintWriter out = new PrintWriter(new FileWriter(history, true))) {
+            if (created) {
+                out.println("time,variant,students,ready_ms,first_request_ms,p50_ms,p99_ms,max_ms");
+            }
+            out.println(Instant.now() + "," + variant + "," + students + "," + result);
+        }
+    }
+
+    private static boolean ready() {
+        try {
+            return CLIENT.send(HttpRequest.newBuilder(URI.create(READINESS_URL)).build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static long millis(long nanos) {
+        return nanos / 1_000_000;
+    }
+}
@@ -0,0 +1,63 @@
+package com.studentmanagement.benchmark;
+
+import com.studentmanagement.model.Student;
+import com.studentmanagement.repository.StudentRepository;
+import com.studentmanagement.service.StudentSearchIndex;
+import com.studentmanagement.service.StudentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Trigram index vs. the LIKE '%term%' JPQL scan it replaces
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class StudentSearchBenchmark {
+
+    @Param({"1000000"})
+    private int students;
+
+    @Param({"garcia", "engineering", "rick"})
+    private String term;
+
+    @Param({"20"})
+    private int limit;
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private StudentRepository studentRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        context = BenchmarkApplication.start();
+        studentService = context.getBean(StudentService.class);
+        studentRepository = context.getBean(StudentRepository.class);
+
+        StudentSearchIndex searchIndex = context.getBean(StudentSearchIndex.class);
+        while (!searchIndex.isReady()) {
+            Thread.sleep(50);
+        }
+        BenchmarkApplication.seedStudents(context.getBean(JdbcTemplate.class), students);
+        searchIndex.load();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Student> trigramIndex() {
+        return studentService.searchStudents(term, limit);
+    }
+
+    @Benchmark
+    public List<Student> jpqlScan() {
+        return studentRepository.searchStudents(term);
+    }
+}
@@ -0,0 +1,68 @@
+package com.studentmanagement.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import java.lang.management.ManagementFactory;
+
+// Heap allocated by each request on its handling thread (http.server.allocated), tagged like
+// http.server.requests so the endpoints burning the most allocation rate stand out
+@Component
+public class AllocationMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = AllocationMetricsInterceptor.class.getName() + ".start";
+    private static final String THREAD_ATTRIBUTE = AllocationMetricsInterceptor.class.getName() + ".thread";
+
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (THREADS != null && handler instanceof HandlerMethod) {
+            // -1 where unsupported, e.g. on virtual threads
+            long allocated = THREADS.getCurrentThreadAllocatedBytes();
+            if (allocated >= 0) {
+                request.setAttribute(START_ATTRIBUTE, allocated);
+                request.setAttribute(THREAD_ATTRIBUTE, Thread.currentThread());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        // Async (streaming) requests complete on another thread, whose counter says nothing about this request
+        if (!(start instanceof Long startBytes) || request.getAttribute(THREAD_ATTRIBUTE) != Thread.currentThread()) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("http.server.allocated")
+                .description("Heap bytes allocated while handling a request")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1024.0)
+                .maximumExpectedValue(1024.0 * 1024 * 1024)
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .register(meterRegistry)
+                .record(THREADS.getCurrentThreadAllocatedBytes() - startBytes);
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.studentmanagement.config;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Carries second-level cache invalidations between app nodes. Each node publishes the entities its committed
+// transactions changed; every subscriber (the publishing node included) receives them. Transports are chosen
+// with cache.invalidation.bus; a message broker implementation only has to provide these two methods
+public interface CacheInvalidationBus {
+
+    void publish(Invalidation invalidation);
+
+    void subscribe(Consumer<Invalidation> subscriber);
+
+    final class Invalidation {
+        private final String origin;
+        private final String entityName;
+        private final Collection<Object> ids;
+
+        // No ids: every cached entity of the type (after a bulk update)
+        public Invalidation(String origin, String entityName, Collection<Object> ids) {
+            this.origin = origin;
+            this.entityName = entityName;
+            this.ids = List.copyOf(ids);
+        }
+
+        public String getOrigin() { return origin; }
+
+        public String getEntityName() { return entityName; }
+
+        public Collection<Object> getIds() { return ids; }
+    }
+}
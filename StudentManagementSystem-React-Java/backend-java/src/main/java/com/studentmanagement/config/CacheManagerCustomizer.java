@@ -0,0 +1,33 @@
+package com.studentmanagement.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import jakarta.annotation.PreDestroy;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.Map;
+import java.util.UUID;
+
+// JCache hands out one CacheManager per URI and class loader, so every application context in a JVM would share
+// the same second-level cache regions. A manager under a URI of its own gives each context (each node) private
+// regions; Caffeine still reads their bounds from application.conf for a URI that is not a file or resource
+@Component
+public class CacheManagerCustomizer implements HibernatePropertiesCustomizer {
+
+    private final CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("urn:student-management:" + UUID.randomUUID()), getClass().getClassLoader());
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    // Closed after the EntityManagerFactory using it, which depends on this bean
+    @PreDestroy
+    public void close() {
+        cacheManager.close();
+    }
+}
@@ -0,0 +1,38 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.controller.ConditionalGet;
+import com.studentmanagement.service.ResourceVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+
+        // Taken before the handler reads anything: a concurrent write can leave the tag older than the body, never newer
+        String etag = resourceVersions.etag(conditionalGet.value());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        // The tag is per resource version, not per representation: caches must keep JSON, CBOR and Smile apart
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        // Sets the ETag header, and the 304 status when If-None-Match matches
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
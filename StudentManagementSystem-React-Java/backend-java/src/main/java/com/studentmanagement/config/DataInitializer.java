@@ -2,17 +2,30 @@ package com.studentmanagement.config;
 
 import com.studentmanagement.model.Student;
 import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.FeeType;
 import com.studentmanagement.model.Inquiry;
+import com.studentmanagement.model.InquiryStatus;
+import com.studentmanagement.model.Payment;
 import com.studentmanagement.repository.StudentRepository;
 import com.studentmanagement.repository.FeeRepository;
 import com.studentmanagement.repository.InquiryRepository;
+import com.studentmanagement.repository.PaymentRepository;
+import com.studentmanagement.service.SyntheticDataGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+// Sample data for development; off in the durable profile. Runs before StartupWarmup
 @Component
+@Order(0)
+@ConditionalOnProperty(name = "sample-data.enabled", havingValue = "true", matchIfMissing = true)
 public class DataInitializer implements CommandLineRunner {
 
     @Autowired
@@ -24,17 +37,27 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private InquiryRepository inquiryRepository;
 
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
     @Override
     public void run(String... args) throws Exception {
         // Initialize sample data if database is empty
         if (studentRepository.count() == 0) {
-            initializeStudents();
-            initializeFees();
-            initializeInquiries();
+            if (generator.isEnabled()) {
+                // sample-data.students set: a generated dataset of that size instead of the rows below
+                generator.generate();
+            } else {
+                initializeFees(initializeStudents());
+                initializeInquiries();
+            }
         }
     }
 
-    private void initializeStudents() {
+    private List<Student> initializeStudents() {
         // Create sample students
         Student student1 = new Student(
             "John", "Doe", "john.doe@email.com", "+1234567890",
@@ -51,55 +74,50 @@ public class DataInitializer implements CommandLineRunner {
             "1997-03-10", "Female", "789 Pine St, City, State", "Engineering"
         );
 
-        studentRepository.save(student1);
-        studentRepository.save(student2);
-        studentRepository.save(student3);
+        // One transaction and one JDBC batch; the saved students are used for the fees, no lookups by email
+        List<Student> students = studentRepository.saveAll(List.of(student1, student2, student3));
         
         System.out.println("Sample students initialized");
+        return students;
     }
 
-    private void initializeFees() {
-        // Get students for fee assignment
-        Student student1 = studentRepository.findByEmail("john.doe@email.com").orElse(null);
-        Student student2 = studentRepository.findByEmail("jane.smith@email.com").orElse(null);
-        Student student3 = studentRepository.findByEmail("alice.johnson@email.com").orElse(null);
-
-        if (student1 != null) {
-            Fee tuitionFee1 = new Fee(student1, "Tuition Fee", new BigDecimal("5000.00"), LocalDateTime.now().plusMonths(1));
-            tuitionFee1.setPaidAmount(new BigDecimal("5000.00"));
-            tuitionFee1.setStatus("Paid");
-            tuitionFee1.setPaidDate(LocalDateTime.now().minusDays(30));
-            
-            Fee libraryFee1 = new Fee(student1, "Library Fee", new BigDecimal("200.00"), LocalDateTime.now().plusMonths(2));
-            libraryFee1.setPaidAmount(new BigDecimal("200.00"));
-            libraryFee1.setStatus("Paid");
-            libraryFee1.setPaidDate(LocalDateTime.now().minusDays(15));
-            
-            feeRepository.save(tuitionFee1);
-            feeRepository.save(libraryFee1);
-        }
+    private void initializeFees(List<Student> students) {
+        Student student1 = students.get(0);
+        Student student2 = students.get(1);
+        Student student3 = students.get(2);
 
-        if (student2 != null) {
-            Fee tuitionFee2 = new Fee(student2, "Tuition Fee", new BigDecimal("4500.00"), LocalDateTime.now().plusMonths(1));
-            tuitionFee2.setPaidAmount(new BigDecimal("1500.00"));
-            tuitionFee2.setStatus("Partially Paid");
-            tuitionFee2.setPaidDate(LocalDateTime.now().minusDays(20));
-            
-            Fee labFee2 = new Fee(student2, "Lab Fee", new BigDecimal("300.00"), LocalDateTime.now().plusMonths(3));
-            
-            feeRepository.save(tuitionFee2);
-            feeRepository.save(labFee2);
-        }
+        Fee tuitionFee1 = new Fee(student1, FeeType.TUITION, new BigDecimal("5000.00"), LocalDateTime.now().plusMonths(1));
+        tuitionFee1.setPaidAmount(new BigDecimal("5000.00"));
+        tuitionFee1.setStatus(FeeStatus.PAID);
+        tuitionFee1.setPaidDate(LocalDateTime.now().minusDays(30));
+        
+        Fee libraryFee1 = new Fee(student1, FeeType.LIBRARY, new BigDecimal("200.00"), LocalDateTime.now().plusMonths(2));
+        libraryFee1.setPaidAmount(new BigDecimal("200.00"));
+        libraryFee1.setStatus(FeeStatus.PAID);
+        libraryFee1.setPaidDate(LocalDateTime.now().minusDays(15));
+
+        Fee tuitionFee2 = new Fee(student2, FeeType.TUITION, new BigDecimal("4500.00"), LocalDateTime.now().plusMonths(1));
+        tuitionFee2.setPaidAmount(new BigDecimal("1500.00"));
+        tuitionFee2.setStatus(FeeStatus.PARTIALLY_PAID);
+        tuitionFee2.setPaidDate(LocalDateTime.now().minusDays(20));
+        
+        Fee labFee2 = new Fee(student2, FeeType.LAB, new BigDecimal("300.00"), LocalDateTime.now().plusMonths(3));
+
+        Fee tuitionFee3 = new Fee(student3, FeeType.TUITION, new BigDecimal("5500.00"), LocalDateTime.now().plusMonths(1));
+        Fee libraryFee3 = new Fee(student3, FeeType.LIBRARY, new BigDecimal("200.00"), LocalDateTime.now().plusMonths(2));
+        Fee labFee3 = new Fee(student3, FeeType.LAB, new BigDecimal("400.00"), LocalDateTime.now().plusMonths(3));
+
+        List<Fee> fees = feeRepository.saveAll(List.of(
+            tuitionFee1, libraryFee1, tuitionFee2, labFee2, tuitionFee3, libraryFee3, labFee3));
 
-        if (student3 != null) {
-            Fee tuitionFee3 = new Fee(student3, "Tuition Fee", new BigDecimal("5500.00"), LocalDateTime.now().plusMonths(1));
-            Fee libraryFee3 = new Fee(student3, "Library Fee", new BigDecimal("200.00"), LocalDateTime.now().plusMonths(2));
-            Fee labFee3 = new Fee(student3, "Lab Fee", new BigDecimal("400.00"), LocalDateTime.now().plusMonths(3));
-            
-            feeRepository.save(tuitionFee3);
-            feeRepository.save(libraryFee3);
-            feeRepository.save(labFee3);
+        // Paid before the sample data starts: each fee's ledger opens with its paid amount
+        List<Payment> openingBalances = new ArrayList<>();
+        for (Fee fee : fees) {
+            if (fee.getPaidAmount().signum() > 0) {
+                openingBalances.add(Payment.openingBalance(fee));
+            }
         }
+        paymentRepository.saveAll(openingBalances);
         
         System.out.println("Sample fees initialized");
     }
@@ -120,13 +138,11 @@ public class DataInitializer implements CommandLineRunner {
             "Mike Davis", "mike.davis@email.com", "+1234567895",
             "Course Duration", "What is the duration of the Engineering program?"
         );
-        inquiry3.setStatus("Responded");
+        inquiry3.setStatus(InquiryStatus.RESPONDED);
         inquiry3.setResponse("The Engineering program is 4 years long.");
         inquiry3.setResponseDate(LocalDateTime.now().minusDays(5));
 
-        inquiryRepository.save(inquiry1);
-        inquiryRepository.save(inquiry2);
-        inquiryRepository.save(inquiry3);
+        inquiryRepository.saveAll(List.of(inquiry1, inquiry2, inquiry3));
         
         System.out.println("Sample inquiries initialized");
     }
@@ -0,0 +1,165 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.model.ActivityEvent;
+import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.Inquiry;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.service.ResourceVersions;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import org.hibernate.StatelessSession;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Keeps the second-level caches of several nodes coherent. Locally Hibernate already updates or evicts a cached
+// entity, and marks cached queries over its table stale, when a write commits. This collects the cached entities
+// each transaction writes, publishes them once it commits, and replays the same eviction for other nodes' writes.
+// Writes to the entities behind the read endpoints' ETags are published too, cached or not, and move this node's
+// ResourceVersions so it stops answering 304 for data another node changed.
+// Never lazy: nothing needs the bean itself, but Hibernate's listeners must be registered before the first write
+@Component
+@Lazy(false)
+public class EntityCacheInvalidator implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final Map<String, ResourceVersions.Resource> RESOURCES = Map.of(
+        Student.class.getName(), ResourceVersions.Resource.STUDENTS,
+        Fee.class.getName(), ResourceVersions.Resource.FEES,
+        Inquiry.class.getName(), ResourceVersions.Resource.INQUIRIES,
+        ActivityEvent.class.getName(), ResourceVersions.Resource.ACTIVITY
+    );
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheInvalidationBus bus;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    private SessionFactoryImplementor sessionFactory;
+
+    @PostConstruct
+    public void register() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry listeners = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_INSERT, this);
+        listeners.appendListeners(EventType.POST_UPDATE, this);
+        listeners.appendListeners(EventType.POST_DELETE, this);
+        bus.subscribe(this::apply);
+    }
+
+    // For writes Hibernate cannot see entity by entity (bulk JPQL updates): every cached entity of the type
+    public void entityTypeChanged(Class<?> entityType) {
+        bus.publish(new CacheInvalidationBus.Invalidation(nodeId, entityType.getName(), List.of()));
+    }
+
+    // Published by this node, and already applied here
+    public boolean isLocal(CacheInvalidationBus.Invalidation invalidation) {
+        return invalidation.getOrigin().equals(nodeId);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        changed(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        changed(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        changed(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void changed(EntityPersister persister, Object id) {
+        if (!persister.canWriteToCache() && !RESOURCES.containsKey(persister.getEntityName())) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bus.publish(new CacheInvalidationBus.Invalidation(nodeId, persister.getEntityName(), List.of(id)));
+            return;
+        }
+        PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingInvalidations();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.ids.computeIfAbsent(persister.getEntityName(), name -> new LinkedHashSet<>()).add(id);
+    }
+
+    private void apply(CacheInvalidationBus.Invalidation invalidation) {
+        if (isLocal(invalidation)) {
+            return;
+        }
+        String entityName = invalidation.getEntityName();
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityName);
+        if (persister.canWriteToCache()) {
+            if (invalidation.getIds().isEmpty()) {
+                sessionFactory.getCache().evictEntityData(entityName);
+            } else {
+                for (Object id : invalidation.getIds()) {
+                    sessionFactory.getCache().evictEntityData(entityName, id);
+                }
+            }
+        }
+        // As after a local write: cached query results over the entity's tables no longer count as fresh.
+        // A node running without the query cache has no timestamps to move
+        TimestampsCache timestamps = sessionFactory.getCache().getTimestampsCache();
+        if (timestamps != null) {
+            try (StatelessSession session = sessionFactory.openStatelessSession()) {
+                timestamps.invalidate((String[]) persister.getQuerySpaces(), (SharedSessionContractImplementor) session);
+            }
+        }
+        ResourceVersions.Resource resource = RESOURCES.get(entityName);
+        if (resource != null) {
+            resourceVersions.bump(resource);
+        }
+    }
+
+    // One message per entity type per committed transaction, however many rows it wrote
+    private final class PendingInvalidations implements TransactionSynchronization {
+        private final Map<String, Set<Object>> ids = new HashMap<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResource(EntityCacheInvalidator.this);
+            if (status == STATUS_COMMITTED) {
+                ids.forEach((entityName, entityIds) ->
+                        bus.publish(new CacheInvalidationBus.Invalidation(nodeId, entityName, entityIds)));
+            }
+        }
+    }
+}
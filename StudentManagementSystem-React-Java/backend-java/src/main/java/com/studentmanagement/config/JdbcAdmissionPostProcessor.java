@@ -0,0 +1,49 @@
+package com.studentmanagement.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+
+// Wraps the pool in AdmissionControlledDataSource; enabled by the virtual-threads profile
+@Component
+@ConditionalOnProperty(name = "jdbc.admission.enabled", havingValue = "true")
+public class JdbcAdmissionPostProcessor implements BeanPostProcessor, MeterBinder {
+
+    @Value("${jdbc.admission.permits:${spring.datasource.hikari.maximum-pool-size:10}}")
+    private int permits;
+
+    @Value("${jdbc.admission.timeout-ms:30000}")
+    private long timeoutMillis;
+
+    private volatile AdmissionControlledDataSource admissionControlled;
+
+    // Only the application's DataSource: with a read replica the pools behind it are beans as well
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof AdmissionControlledDataSource)
+                && beanName.equals("dataSource")) {
+            admissionControlled = new AdmissionControlledDataSource(dataSource, permits, timeoutMillis);
+            return admissionControlled;
+        }
+        return bean;
+    }
+
+    // Requests queued for a permit, next to Hikari's own hikaricp.connections.* pool metrics
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        AdmissionControlledDataSource dataSource = admissionControlled;
+        if (dataSource != null) {
+            Gauge.builder("jdbc.admission.waiting", dataSource, AdmissionControlledDataSource::getQueueLength)
+                    .description("Threads waiting for a database permit")
+                    .register(registry);
+            Gauge.builder("jdbc.admission.available", dataSource, AdmissionControlledDataSource::getAvailablePermits)
+                    .description("Database permits not in use")
+                    .register(registry);
+        }
+    }
+}
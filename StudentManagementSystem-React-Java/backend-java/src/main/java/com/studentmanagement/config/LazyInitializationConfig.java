@@ -0,0 +1,21 @@
+package com.studentmanagement.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+// With spring.main.lazy-initialization (the fast-start profile) beans are created on first use. The controllers,
+// and through them the services, repositories and JPA, are still created during startup so the first request does
+// not pay for them; Spring Boot keeps beans with @Scheduled methods eager too. What is left to first use is what
+// no controller, job or runner reaches, mostly framework infrastructure
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerControllers() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && AnnotatedElementUtils.hasAnnotation(beanType, RestController.class);
+    }
+}
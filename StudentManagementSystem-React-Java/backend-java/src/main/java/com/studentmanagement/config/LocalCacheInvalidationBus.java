@@ -0,0 +1,38 @@
+package com.studentmanagement.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Stand-in for a message broker: one topic shared by every application context in this JVM, so several nodes
+// started side by side (see CacheCoherenceTest) stay coherent. Delivery is synchronous, on the publishing thread
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.bus", havingValue = "local", matchIfMissing = true)
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final List<Consumer<Invalidation>> SUBSCRIBERS = new CopyOnWriteArrayList<>();
+
+    private final List<Consumer<Invalidation>> subscribed = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Invalidation invalidation) {
+        for (Consumer<Invalidation> subscriber : SUBSCRIBERS) {
+            subscriber.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Invalidation> subscriber) {
+        subscribed.add(subscriber);
+        SUBSCRIBERS.add(subscriber);
+    }
+
+    // A closed context stops receiving
+    @PreDestroy
+    public void unsubscribeAll() {
+        SUBSCRIBERS.removeAll(subscribed);
+    }
+}
@@ -0,0 +1,128 @@
+package com.studentmanagement.config;
+
+import jakarta.annotation.PostConstruct;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+// Stands in for replication when the replica is a second local H2 database (the replica profile). The replica
+// gets the same migrations, and on every interval each table is copied from one primary snapshot into one replica
+// transaction, heartbeat first, so readers only ever see a whole, consistent copy. Every row is rewritten each
+// time: fine for development data, not for benchmarking
+@Component
+@ConditionalOnProperty(name = "datasource.replica.local-apply.enabled", havingValue = "true")
+public class LocalReplicaApplier {
+
+    private static final String HEARTBEAT_TABLE = "REPLICATION_HEARTBEAT";
+    private static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Value("${datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${spring.flyway.locations:classpath:db/migration}")
+    private String[] migrationLocations;
+
+    private final List<String> tables = new ArrayList<>();
+
+    @PostConstruct
+    public void init() throws SQLException {
+        Flyway.configure()
+                .dataSource(replicaUrl, replicaUsername, replicaPassword)
+                .locations(migrationLocations)
+                .load()
+                .migrate();
+        try (Connection replica = openReplica(); Statement statement = replica.createStatement()) {
+            // Constraints were enforced on the primary; checking them again would force a parent-first copy order
+            statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            try (ResultSet rs = statement.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES " +
+                    "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE' " +
+                    "AND LOWER(TABLE_NAME) <> 'flyway_schema_history' ORDER BY TABLE_NAME")) {
+                while (rs.next()) {
+                    tables.add(rs.getString(1));
+                }
+            }
+        }
+        // The heartbeat is read first: every row committed before its stamp is in the tables read after it
+        tables.remove(HEARTBEAT_TABLE);
+        tables.add(0, HEARTBEAT_TABLE);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.local-apply.interval-ms:1000}")
+    public synchronized void apply() {
+        try (Connection primary = primaryDataSource.getConnection(); Connection replica = openReplica()) {
+            primary.setAutoCommit(false);
+            primary.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            replica.setAutoCommit(false);
+            try {
+                for (String table : tables) {
+                    copy(primary, replica, table);
+                }
+                replica.commit();
+            } catch (SQLException e) {
+                replica.rollback();
+                throw e;
+            } finally {
+                primary.rollback();
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error applying primary changes to the replica: " + e.getMessage(), e);
+        }
+    }
+
+    private void copy(Connection primary, Connection replica, String table) throws SQLException {
+        try (Statement delete = replica.createStatement()) {
+            delete.executeUpdate("DELETE FROM \"" + table + "\"");
+        }
+        try (Statement select = primary.createStatement();
+             ResultSet rows = select.executeQuery("SELECT * FROM \"" + table + "\"")) {
+            int columns = rows.getMetaData().getColumnCount();
+            StringBuilder sql = new StringBuilder("INSERT INTO \"").append(table).append("\" VALUES (");
+            for (int i = 0; i < columns; i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            try (PreparedStatement insert = replica.prepareStatement(sql.append(')').toString())) {
+                int batched = 0;
+                while (rows.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        insert.setObject(i, rows.getObject(i));
+                    }
+                    insert.addBatch();
+                    if (++batched == BATCH_SIZE) {
+                        insert.executeBatch();
+                        batched = 0;
+                    }
+                }
+                if (batched > 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+
+    private Connection openReplica() throws SQLException {
+        return DriverManager.getConnection(replicaUrl, replicaUsername, replicaPassword);
+    }
+}
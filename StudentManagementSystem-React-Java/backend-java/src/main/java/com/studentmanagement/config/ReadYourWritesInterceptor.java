@@ -0,0 +1,55 @@
+package com.studentmanagement.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+// Read-your-writes per HTTP client with a read replica. A response to a request that wrote carries X-Last-Write,
+// the commit time in epoch milliseconds; a client that sends the newest value it got back on later requests, to
+// any node, reads from the primary until the replica has applied that write
+@Component
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String LAST_WRITE_HEADER = "X-Last-Write";
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        lagMonitor.beginClient(lastWrite(request), written -> {
+            if (!response.isCommitted()) {
+                response.setHeader(LAST_WRITE_HEADER, Long.toString(written));
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        lagMonitor.endClient();
+    }
+
+    // The request thread is released; the rest of the response is written elsewhere
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        lagMonitor.endClient();
+    }
+
+    // Missing or malformed: no write to wait for
+    private static long lastWrite(HttpServletRequest request) {
+        String value = request.getHeader(LAST_WRITE_HEADER);
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.studentmanagement.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+// Decides whether the replica may serve a read. The primary's replication_heartbeat row is stamped with the
+// time on every interval; the stamp the replica has applied is its position, and everything committed on the
+// primary before that time is on the replica. Reads stay on the primary while the replica is more than
+// max-lag-ms behind, or has not yet reached the client's last write (read-your-writes). An HTTP client's last
+// write travels with it (see ReadYourWritesInterceptor), so other clients keep reading from the replica and the
+// client's next request may go to any node; work outside a request counts as one client per thread. Stamps and
+// writes are compared by wall clock, so nodes need synchronized clocks
+@Component
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaLagMonitor implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String HEARTBEAT_SQL = "UPDATE replication_heartbeat SET beat = ? WHERE id = 1";
+    private static final String POSITION_SQL = "SELECT beat FROM replication_heartbeat WHERE id = 1";
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Value("${datasource.replica.max-lag-ms:5000}")
+    private long maxLagMillis;
+
+    // Off on nodes that leave stamping the heartbeat to another node or to the database's own tooling
+    @Value("${datasource.replica.heartbeat-writer:true}")
+    private boolean heartbeatWriter;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    private volatile long replicaPosition;
+    private final ThreadLocal<Client> clients = ThreadLocal.withInitial(() -> new Client(0, null));
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReadsAfterWrite = new LongAdder();
+    private final LongAdder primaryReadsLagging = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        // Straight to the pools: the heartbeat is not a write that readers need to wait for
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+    }
+
+    @Scheduled(fixedRateString = "${datasource.replica.heartbeat-interval-ms:250}")
+    public void heartbeat() {
+        if (heartbeatWriter) {
+            try {
+                primary.update(HEARTBEAT_SQL, System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                log.warn("Could not write the replication heartbeat: {}", e.getMessage());
+            }
+        }
+        try {
+            Long position = replica.queryForObject(POSITION_SQL, Long.class);
+            if (position != null) {
+                replicaPosition = position;
+            }
+        } catch (RuntimeException e) {
+            // An unreachable replica keeps its last position and falls further behind until it answers again
+            log.debug("Could not read the replica position: {}", e.getMessage());
+        }
+    }
+
+    boolean replicaCurrent() {
+        long position = replicaPosition;
+        // A stamp taken in the same millisecond as the write may predate its commit
+        if (position <= clients.get().lastWrite) {
+            primaryReadsAfterWrite.increment();
+            return false;
+        }
+        if (System.currentTimeMillis() - position > maxLagMillis) {
+            primaryReadsLagging.increment();
+            return false;
+        }
+        replicaReads.increment();
+        return true;
+    }
+
+    // Called on the writing thread once a write is committed
+    void writeCommitted() {
+        Client client = clients.get();
+        client.lastWrite = Math.max(client.lastWrite, System.currentTimeMillis());
+        if (client.onWrite != null) {
+            client.onWrite.accept(client.lastWrite);
+        }
+    }
+
+    // The current thread serves a client whose newest write committed at lastWrite (0 for none); onWrite hears
+    // of each write it makes here
+    void beginClient(long lastWrite, LongConsumer onWrite) {
+        clients.set(new Client(lastWrite, onWrite));
+    }
+
+    void endClient() {
+        clients.remove();
+    }
+
+    long getLagMillis() {
+        return Math.max(0, System.currentTimeMillis() - replicaPosition);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("datasource.replica.lag", this, TimeUnit.MILLISECONDS, ReplicaLagMonitor::getLagMillis)
+                .description("Time since the newest primary heartbeat the replica has applied")
+                .register(registry);
+        registerReads(registry, "replica", replicaReads);
+        registerReads(registry, "primary_after_write", primaryReadsAfterWrite);
+        registerReads(registry, "primary_lagging", primaryReadsLagging);
+    }
+
+    private static final class Client {
+        private long lastWrite;
+        private final LongConsumer onWrite;
+
+        private Client(long lastWrite, LongConsumer onWrite) {
+            this.lastWrite = lastWrite;
+            this.onWrite = onWrite;
+        }
+    }
+
+    private static void registerReads(MeterRegistry registry, String route, LongAdder count) {
+        FunctionCounter.builder("datasource.routing.reads", count, LongAdder::sum)
+                .description("Read-only transactions by the pool that served them")
+                .tag("route", route)
+                .register(registry);
+    }
+}
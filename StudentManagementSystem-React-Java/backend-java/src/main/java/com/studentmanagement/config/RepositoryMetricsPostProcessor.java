@@ -0,0 +1,71 @@
+package com.studentmanagement.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Rows returned per repository method (repository.rows); the timings come from Spring Boot's
+// spring.data.repository.invocations timer, tagged with the same repository and method names
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                (proxyFactory, information) -> {
+                    String repository = information.getRepositoryInterface().getSimpleName();
+                    Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+                    proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                        Object result = invocation.proceed();
+                        long rows = rows(result);
+                        if (rows >= 0) {
+                            summaries.computeIfAbsent(invocation.getMethod(), method ->
+                                DistributionSummary.builder("repository.rows")
+                                        .description("Rows returned by a repository method")
+                                        .tag("repository", repository)
+                                        .tag("method", method.getName())
+                                        .publishPercentileHistogram()
+                                        .minimumExpectedValue(1.0)
+                                        .maximumExpectedValue(100_000.0)
+                                        .register(meterRegistry.getObject()))
+                                    .record(rows);
+                        }
+                        return result;
+                    });
+                }));
+        }
+        return bean;
+    }
+
+    // -1 for results that are not rows: counts, sums, flags and void methods
+    private static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result == null || result instanceof Number || result instanceof Boolean) {
+            return -1;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,172 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.repository.FeeRepository;
+import com.studentmanagement.repository.StudentRepository;
+import com.studentmanagement.service.DashboardStatsCounters;
+import com.studentmanagement.service.StudentSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+// Loads what the first requests would otherwise load on their own time: the search index, the dashboard
+// counters, the newest students and fees (into the second-level cache, and their pages into H2's cache), and
+// Spring MVC, Jackson and Hibernate's lazily built state along the common read endpoints. Runs as the last
+// runner, so the readiness probe (/actuator/health/readiness) stays OUT_OF_SERVICE until it finishes
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(name = "startup.warmup.enabled", havingValue = "true")
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private static final int CHUNK = 1000;
+    private static final String[] WARMUP_PATHS = {
+        "/students?limit=50", "/students/search?q=smith&limit=20", "/fees?limit=50",
+        "/fees/status/Pending?limit=50", "/inquiries?limit=50", "/dashboard/stats", "/dashboard/recent-activities"
+    };
+
+    @Autowired
+    private StudentSearchIndex searchIndex;
+
+    @Autowired
+    private DashboardStatsCounters statsCounters;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private FeeRepository feeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    // Keep these within the students and fees cache regions (application.conf), or the newest entries evict each other
+    @Value("${startup.warmup.cached-students:20000}")
+    private int cachedStudents;
+
+    @Value("${startup.warmup.cached-fees:50000}")
+    private int cachedFees;
+
+    // Deadline for the dashboard aggregates, in place of dashboard.query.timeout-ms
+    @Value("${startup.warmup.timeout-ms:120000}")
+    private long timeoutMillis;
+
+    // Requests per warm-up path
+    @Value("${startup.warmup.requests:20}")
+    private int requestsPerPath;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        // Independent of each other, each holding one connection at a time; run side by side only as far as there
+        // are cores, or they just compete (the dashboard aggregates have a deadline, so they go first)
+        int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, task -> new Thread(task, "startup-warmup"));
+        try {
+            CompletableFuture.allOf(
+                    timed("dashboard counters", executor, this::loadDashboardCounters),
+                    timed("search index", executor, searchIndex::load),
+                    timed("students", executor, () -> loadNewest("students", cachedStudents,
+                            studentRepository::findByIdGreaterThanOrderByIdAsc, Student::getId)),
+                    timed("fees", executor, () -> loadNewest("fees", cachedFees,
+                            feeRepository::findByIdGreaterThanOrderByIdAsc, Fee::getId))
+            ).join();
+        } finally {
+            executor.shutdown();
+        }
+        warmEndpoints();
+        log.info("Warm-up finished in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private CompletableFuture<Void> timed(String step, ExecutorService executor, Runnable work) {
+        return CompletableFuture.runAsync(() -> {
+            long started = System.nanoTime();
+            try {
+                work.run();
+                log.info("Warm-up: {} loaded in {} ms", step, (System.nanoTime() - started) / 1_000_000);
+            } catch (RuntimeException e) {
+                // A cold cache is slower, not wrong; report it and carry on
+                log.warn("Warm-up: {} failed: {}", step, e.getMessage());
+            }
+        }, executor);
+    }
+
+    private void loadDashboardCounters() {
+        statsCounters.reconcile(timeoutMillis);
+        if (!statsCounters.isReady()) {
+            throw new RuntimeException("aggregates did not finish within startup.warmup.timeout-ms");
+        }
+    }
+
+    // The newest rows are the likeliest to be read; ids are allocated in order, so they are the highest ids
+    private <T> void loadNewest(String table, int count, ChunkQuery<T> query, Function<T, Long> idOf) {
+        if (count <= 0) {
+            return;
+        }
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        long after = Math.max(0, maxId - count);
+        int loaded = 0;
+        List<T> chunk;
+        do {
+            chunk = query.find(after, Limit.of(Math.min(CHUNK, count - loaded)));
+            if (!chunk.isEmpty()) {
+                after = idOf.apply(chunk.get(chunk.size() - 1));
+                loaded += chunk.size();
+            }
+        } while (chunk.size() == CHUNK && loaded < count);
+    }
+
+    private void warmEndpoints() {
+        if (requestsPerPath <= 0 || !(applicationContext instanceof WebServerApplicationContext web)) {
+            return;
+        }
+        long started = System.nanoTime();
+        String base = "http://127.0.0.1:" + web.getWebServer().getPort()
+                + applicationContext.getEnvironment().getProperty("server.servlet.context-path", "");
+        HttpClient client = HttpClient.newHttpClient();
+        for (int i = 0; i < requestsPerPath; i++) {
+            for (String path : WARMUP_PATHS) {
+                try {
+                    client.send(HttpRequest.newBuilder(URI.create(base + path)).build(), HttpResponse.BodyHandlers.discarding());
+                } catch (Exception e) {
+                    log.warn("Warm-up: request to {} failed: {}", path, e.getMessage());
+                    return;
+                }
+            }
+        }
+        log.info("Warm-up: {} requests in {} ms", requestsPerPath * WARMUP_PATHS.length,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private interface ChunkQuery<T> {
+        List<T> find(Long afterId, Limit limit);
+    }
+}
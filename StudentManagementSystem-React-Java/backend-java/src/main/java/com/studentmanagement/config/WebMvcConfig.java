@@ -0,0 +1,43 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.FeeType;
+import com.studentmanagement.model.InquiryStatus;
+import com.studentmanagement.model.StudentStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ConditionalGetInterceptor conditionalGetInterceptor;
+
+    @Autowired
+    private AllocationMetricsInterceptor allocationMetricsInterceptor;
+
+    // Only with a read replica
+    @Autowired(required = false)
+    private ReadYourWritesInterceptor readYourWritesInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(allocationMetricsInterceptor);
+        registry.addInterceptor(conditionalGetInterceptor);
+        if (readYourWritesInterceptor != null) {
+            registry.addInterceptor(readYourWritesInterceptor);
+        }
+    }
+
+    // Path variables and request parameters take the labels, in any case, as JSON bodies do; an unknown one is a 400
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, StudentStatus.class, StudentStatus::fromLabel);
+        registry.addConverter(String.class, FeeStatus.class, FeeStatus::fromLabel);
+        registry.addConverter(String.class, FeeType.class, FeeType::fromLabel);
+        registry.addConverter(String.class, InquiryStatus.class, InquiryStatus::fromLabel);
+    }
+}
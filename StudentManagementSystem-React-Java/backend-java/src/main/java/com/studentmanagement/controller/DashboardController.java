@@ -1,6 +1,7 @@
 package com.studentmanagement.controller;
 
 import com.studentmanagement.service.DashboardService;
+import com.studentmanagement.service.ResourceVersions.Resource;
 import com.studentmanagement.dto.ApiResponse;
 import com.studentmanagement.dto.DashboardStatsDto;
 import com.studentmanagement.dto.RecentActivityDto;
@@ -18,6 +19,7 @@ public class DashboardController {
     @Autowired
     private DashboardService dashboardService;
 
+    @ConditionalGet({Resource.STUDENTS, Resource.FEES, Resource.INQUIRIES, Resource.DASHBOARD})
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<DashboardStatsDto>> getDashboardStats() {
         try {
@@ -29,10 +31,12 @@ public class DashboardController {
         }
     }
 
+    @ConditionalGet(Resource.ACTIVITY)
     @GetMapping("/recent-activities")
-    public ResponseEntity<ApiResponse<List<RecentActivityDto>>> getRecentActivities() {
+    public ResponseEntity<ApiResponse<List<RecentActivityDto>>> getRecentActivities(@RequestParam(required = false) Integer limit,
+                                                                                    @RequestParam(required = false) Long since) {
         try {
-            List<RecentActivityDto> activities = dashboardService.getRecentActivities();
+            List<RecentActivityDto> activities = dashboardService.getRecentActivities(limit, since);
             return ResponseEntity.ok(ApiResponse.success(activities, "Recent activities retrieved successfully"));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
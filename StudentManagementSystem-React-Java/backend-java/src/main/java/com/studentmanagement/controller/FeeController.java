@@ -1,14 +1,23 @@
 package com.studentmanagement.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.FeeType;
+import com.studentmanagement.model.Payment;
 import com.studentmanagement.service.FeeService;
+import com.studentmanagement.service.OverdueFeeService;
+import com.studentmanagement.service.ResourceVersions.Resource;
 import com.studentmanagement.dto.ApiResponse;
+import com.studentmanagement.dto.KeysetPage;
 import com.studentmanagement.dto.PaymentRequestDto;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +29,21 @@ public class FeeController {
     @Autowired
     private FeeService feeService;
 
+    @Autowired
+    private OverdueFeeService overdueFeeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @ConditionalGet(Resource.FEES)
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Fee>>> getAllFees() {
+    public ResponseEntity<ApiResponse<List<Fee>>> getAllFees(@RequestParam(required = false) Long after,
+                                                             @RequestParam(required = false) Integer limit) {
         try {
+            if (after != null || limit != null) {
+                KeysetPage<Fee> page = feeService.getFeesPage(after, limit);
+                return ListResponses.page(page, "Fees retrieved successfully");
+            }
             List<Fee> fees = feeService.getAllFees();
             return ResponseEntity.ok(ApiResponse.success(fees, "Fees retrieved successfully"));
         } catch (Exception e) {
@@ -31,6 +52,24 @@ public class FeeController {
         }
     }
 
+    @GetMapping(produces = ListResponses.NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamFees(@RequestParam(required = false) Long studentId,
+                                                            @RequestParam(required = false) FeeStatus status,
+                                                            @RequestParam(required = false) FeeType feeType) {
+        return ListResponses.ndjson(objectMapper, row -> feeService.streamFees(studentId, status, feeType, row));
+    }
+
+    @GetMapping("/export.{format:" + ExportResponses.FORMATS + "}")
+    public ResponseEntity<StreamingResponseBody> exportFees(@PathVariable String format,
+                                                            @RequestParam(required = false) Long studentId,
+                                                            @RequestParam(required = false) FeeStatus status,
+                                                            @RequestParam(required = false) FeeType feeType,
+                                                            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return ExportResponses.export(objectMapper, format, "fees", acceptEncoding,
+                rows -> feeService.exportFees(studentId, status, feeType, rows));
+    }
+
+    @ConditionalGet(Resource.FEES)
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<Fee>> getFeeById(@PathVariable Long id) {
         try {
@@ -47,9 +86,16 @@ public class FeeController {
         }
     }
 
+    @ConditionalGet(Resource.FEES)
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<ApiResponse<List<Fee>>> getFeesByStudentId(@PathVariable Long studentId) {
+    public ResponseEntity<ApiResponse<List<Fee>>> getFeesByStudentId(@PathVariable Long studentId,
+                                                                     @RequestParam(required = false) Long after,
+                                                                     @RequestParam(required = false) Integer limit) {
         try {
+            if (after != null || limit != null) {
+                KeysetPage<Fee> page = feeService.getFeesByStudentIdPage(studentId, after, limit);
+                return ListResponses.page(page, "Student fees retrieved successfully");
+            }
             List<Fee> fees = feeService.getFeesByStudentId(studentId);
             return ResponseEntity.ok(ApiResponse.success(fees, "Student fees retrieved successfully"));
         } catch (Exception e) {
@@ -58,9 +104,16 @@ public class FeeController {
         }
     }
 
+    @ConditionalGet(Resource.FEES)
     @GetMapping("/status/{status}")
-    public ResponseEntity<ApiResponse<List<Fee>>> getFeesByStatus(@PathVariable String status) {
+    public ResponseEntity<ApiResponse<List<Fee>>> getFeesByStatus(@PathVariable FeeStatus status,
+                                                                  @RequestParam(required = false) Long after,
+                                                                  @RequestParam(required = false) Integer limit) {
         try {
+            if (after != null || limit != null) {
+                KeysetPage<Fee> page = feeService.getFeesByStatusPage(status, after, limit);
+                return ListResponses.page(page, "Fees retrieved by status successfully");
+            }
             List<Fee> fees = feeService.getFeesByStatus(status);
             return ResponseEntity.ok(ApiResponse.success(fees, "Fees retrieved by status successfully"));
         } catch (Exception e) {
@@ -69,9 +122,16 @@ public class FeeController {
         }
     }
 
+    @ConditionalGet(Resource.FEES)
     @GetMapping("/type/{feeType}")
-    public ResponseEntity<ApiResponse<List<Fee>>> getFeesByType(@PathVariable String feeType) {
+    public ResponseEntity<ApiResponse<List<Fee>>> getFeesByType(@PathVariable FeeType feeType,
+                                                                @RequestParam(required = false) Long after,
+                                                                @RequestParam(required = false) Integer limit) {
         try {
+            if (after != null || limit != null) {
+                KeysetPage<Fee> page = feeService.getFeesByTypePage(feeType, after, limit);
+                return ListResponses.page(page, "Fees retrieved by type successfully");
+            }
             List<Fee> fees = feeService.getFeesByType(feeType);
             return ResponseEntity.ok(ApiResponse.success(fees, "Fees retrieved by type successfully"));
         } catch (Exception e) {
@@ -80,6 +140,52 @@ public class FeeController {
         }
     }
 
+    // The fee's payment ledger, oldest first; pages with ?after=<payment id>&limit=
+    @ConditionalGet(Resource.FEES)
+    @GetMapping("/{id}/payments")
+    public ResponseEntity<ApiResponse<List<Payment>>> getPayments(@PathVariable Long id,
+                                                                  @RequestParam(required = false) Long after,
+                                                                  @RequestParam(required = false) Integer limit) {
+        try {
+            if (after != null || limit != null) {
+                KeysetPage<Payment> page = feeService.getPaymentsByFeeIdPage(id, after, limit);
+                return ListResponses.page(page, "Fee payments retrieved successfully");
+            }
+            List<Payment> payments = feeService.getPaymentsByFeeId(id);
+            return ResponseEntity.ok(ApiResponse.success(payments, "Fee payments retrieved successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error retrieving fee payments: " + e.getMessage()));
+        }
+    }
+
+    // Rebuilds paid-amount snapshots that no longer match the ledger; the response carries how many were repaired
+    @PostMapping("/snapshots/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildPaymentSnapshots() {
+        try {
+            int repaired = feeService.rebuildPaymentSnapshots();
+            return ResponseEntity.ok(ApiResponse.success(repaired, "Fee snapshots rebuilt successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error rebuilding fee snapshots: " + e.getMessage()));
+        }
+    }
+
+    // Runs (or resumes) the overdue-fee job now instead of waiting for its schedule
+    @PostMapping("/overdue/mark")
+    public ResponseEntity<ApiResponse<Integer>> markOverdueFees() {
+        try {
+            int marked = overdueFeeService.markOverdueFees();
+            return ResponseEntity.ok(ApiResponse.success(marked, "Overdue fees marked successfully"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error marking overdue fees: " + e.getMessage()));
+        }
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<Fee>> createFee(@Valid @RequestBody Fee fee) {
         try {
@@ -110,9 +216,10 @@ public class FeeController {
     }
 
     @PostMapping("/{id}/payment")
-    public ResponseEntity<ApiResponse<Fee>> processPayment(@PathVariable Long id, @Valid @RequestBody PaymentRequestDto paymentRequest) {
+    public ResponseEntity<ApiResponse<Fee>> processPayment(@PathVariable Long id, @Valid @RequestBody PaymentRequestDto paymentRequest,
+                                                           @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         try {
-            Fee updatedFee = feeService.processPayment(id, paymentRequest);
+            Fee updatedFee = feeService.processPayment(id, paymentRequest, idempotencyKey);
             return ResponseEntity.ok(ApiResponse.success(updatedFee, "Payment processed successfully"));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -1,13 +1,19 @@
 package com.studentmanagement.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studentmanagement.model.Inquiry;
+import com.studentmanagement.model.InquiryStatus;
 import com.studentmanagement.service.InquiryService;
+import com.studentmanagement.service.ResourceVersions.Resource;
 import com.studentmanagement.dto.ApiResponse;
+import com.studentmanagement.dto.KeysetPage;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,9 +25,18 @@ public class InquiryController {
     @Autowired
     private InquiryService inquiryService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @ConditionalGet(Resource.INQUIRIES)
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Inquiry>>> getAllInquiries() {
+    public ResponseEntity<ApiResponse<List<Inquiry>>> getAllInquiries(@RequestParam(required = false) Long after,
+                                                                      @RequestParam(required = false) Integer limit) {
         try {
+            if (after != null || limit != null) {
+                KeysetPage<Inquiry> page = inquiryService.getInquiriesPage(after, limit);
+                return ListResponses.page(page, "Inquiries retrieved successfully");
+            }
             List<Inquiry> inquiries = inquiryService.getAllInquiries();
             return ResponseEntity.ok(ApiResponse.success(inquiries, "Inquiries retrieved successfully"));
         } catch (Exception e) {
@@ -30,6 +45,20 @@ public class InquiryController {
         }
     }
 
+    @GetMapping(produces = ListResponses.NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamInquiries(@RequestParam(required = false) InquiryStatus status) {
+        return ListResponses.ndjson(objectMapper, row -> inquiryService.streamInquiries(status, row));
+    }
+
+    @GetMapping("/export.{format:" + ExportResponses.FORMATS + "}")
+    public ResponseEntity<StreamingResponseBody> exportInquiries(@PathVariable String format,
+                                                                 @RequestParam(required = false) InquiryStatus status,
+                                                                 @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return ExportResponses.export(objectMapper, format, "inquiries", acceptEncoding,
+                rows -> inquiryService.exportInquiries(status, rows));
+    }
+
+    @ConditionalGet(Resource.INQUIRIES)
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<Inquiry>> getInquiryById(@PathVariable Long id) {
         try {
@@ -46,9 +75,16 @@ public class InquiryController {
         }
     }
 
+    @ConditionalGet(Resource.INQUIRIES)
     @GetMapping("/status/{status}")
-    public ResponseEntity<ApiResponse<List<Inquiry>>> getInquiriesByStatus(@PathVariable String status) {
+    public ResponseEntity<ApiResponse<List<Inquiry>>> getInquiriesByStatus(@PathVariable InquiryStatus status,
+                                                                           @RequestParam(required = false) Long after,
+                                                                           @RequestParam(required = false) Integer limit) {
         try {
+            if (after != null || limit != null) {
+                KeysetPage<Inquiry> page = inquiryService.getInquiriesByStatusPage(status, after, limit);
+                return ListResponses.page(page, "Inquiries retrieved by status successfully");
+            }
             List<Inquiry> inquiries = inquiryService.getInquiriesByStatus(status);
             return ResponseEntity.ok(ApiResponse.success(inquiries, "Inquiries retrieved by status successfully"));
         } catch (Exception e) {
@@ -70,10 +106,17 @@ public class InquiryController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<ApiResponse<Inquiry>> updateInquiry(@PathVariable Long id, @Valid @RequestBody Inquiry inquiryDetails) {
+    public ResponseEntity<ApiResponse<Inquiry>> updateInquiry(@PathVariable Long id, @Valid @RequestBody Inquiry inquiryDetails,
+                                                              @RequestParam(required = false) String worker) {
         try {
-            Inquiry updatedInquiry = inquiryService.updateInquiry(id, inquiryDetails);
+            // Without a worker the edit comes from the UI and overrides any lease
+            Inquiry updatedInquiry = worker == null
+                    ? inquiryService.updateInquiry(id, inquiryDetails)
+                    : inquiryService.updateInquiry(id, inquiryDetails, worker);
             return ResponseEntity.ok(ApiResponse.success(updatedInquiry, "Inquiry updated successfully"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ApiResponse.error(e.getMessage()));
@@ -84,10 +127,17 @@ public class InquiryController {
     }
 
     @PostMapping("/{id}/respond")
-    public ResponseEntity<ApiResponse<Inquiry>> respondToInquiry(@PathVariable Long id, @RequestBody String response) {
+    public ResponseEntity<ApiResponse<Inquiry>> respondToInquiry(@PathVariable Long id, @RequestBody String response,
+                                                                 @RequestParam(required = false) String worker) {
         try {
-            Inquiry updatedInquiry = inquiryService.respondToInquiry(id, response);
+            // Without a worker the answer comes from the UI and overrides any lease
+            Inquiry updatedInquiry = worker == null
+                    ? inquiryService.respondToInquiry(id, response)
+                    : inquiryService.respondToInquiry(id, response, worker);
             return ResponseEntity.ok(ApiResponse.success(updatedInquiry, "Response added successfully"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ApiResponse.error(e.getMessage()));
@@ -97,6 +147,55 @@ public class InquiryController {
         }
     }
 
+    @PostMapping("/claim")
+    public ResponseEntity<ApiResponse<List<Inquiry>>> claimInquiries(@RequestParam String worker,
+                                                                     @RequestParam(required = false) Integer limit) {
+        try {
+            List<Inquiry> claimed = inquiryService.claimPending(worker, limit);
+            return ResponseEntity.ok(ApiResponse.success(claimed, "Claimed " + claimed.size() + " inquiries"));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error claiming inquiries: " + e.getMessage()));
+        }
+    }
+
+    @PutMapping("/{id}/lease")
+    public ResponseEntity<ApiResponse<Inquiry>> renewLease(@PathVariable Long id, @RequestParam String worker) {
+        try {
+            Inquiry inquiry = inquiryService.renewLease(id, worker);
+            return ResponseEntity.ok(ApiResponse.success(inquiry, "Lease renewed successfully"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error renewing lease: " + e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{id}/lease")
+    public ResponseEntity<ApiResponse<Inquiry>> releaseLease(@PathVariable Long id, @RequestParam String worker) {
+        try {
+            Inquiry inquiry = inquiryService.releaseLease(id, worker);
+            return ResponseEntity.ok(ApiResponse.success(inquiry, "Lease released successfully"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error releasing lease: " + e.getMessage()));
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<String>> deleteInquiry(@PathVariable Long id) {
         try {
@@ -0,0 +1,43 @@
+package com.studentmanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.studentmanagement.dto.ApiResponse;
+import com.studentmanagement.dto.KeysetPage;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+final class ListResponses {
+
+    static final String NDJSON = "application/x-ndjson";
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private ListResponses() {}
+
+    static <T> ResponseEntity<ApiResponse<List<T>>> page(KeysetPage<T> page, String message) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasMore()) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+        }
+        return response.body(ApiResponse.success(page.getItems(), message));
+    }
+
+    // One JSON document per line, written as each row comes off the cursor
+    static ResponseEntity<StreamingResponseBody> ndjson(ObjectMapper objectMapper, Consumer<Consumer<Object>> producer) {
+        ObjectWriter writer = objectMapper.writer();
+        StreamingResponseBody body = out -> producer.accept(row -> {
+            try {
+                out.write(writer.writeValueAsBytes(row));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+}
@@ -1,13 +1,26 @@
 package com.studentmanagement.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentmanagement.model.Payment;
 import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentStatus;
+import com.studentmanagement.service.BulkImportService;
+import com.studentmanagement.service.FeeService;
 import com.studentmanagement.service.StudentService;
+import com.studentmanagement.service.ResourceVersions.Resource;
 import com.studentmanagement.dto.ApiResponse;
+import com.studentmanagement.dto.BulkImportResultDto;
+import com.studentmanagement.dto.KeysetPage;
+import com.studentmanagement.dto.StudentFeeSummaryDto;
+import com.studentmanagement.dto.StudentImportDto;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,9 +32,24 @@ public class StudentController {
     @Autowired
     private StudentService studentService;
 
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private FeeService feeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @ConditionalGet(Resource.STUDENTS)
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Student>>> getAllStudents() {
+    public ResponseEntity<ApiResponse<List<Student>>> getAllStudents(@RequestParam(required = false) Long after,
+                                                                     @RequestParam(required = false) Integer limit) {
         try {
+            if (after != null || limit != null) {
+                KeysetPage<Student> page = studentService.getStudentsPage(after, limit);
+                return ListResponses.page(page, "Students retrieved successfully");
+            }
             List<Student> students = studentService.getAllStudents();
             return ResponseEntity.ok(ApiResponse.success(students, "Students retrieved successfully"));
         } catch (Exception e) {
@@ -30,6 +58,22 @@ public class StudentController {
         }
     }
 
+    @GetMapping(produces = ListResponses.NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamStudents(@RequestParam(required = false) StudentStatus status,
+                                                                @RequestParam(required = false) String course) {
+        return ListResponses.ndjson(objectMapper, row -> studentService.streamStudents(status, course, row));
+    }
+
+    @GetMapping("/export.{format:" + ExportResponses.FORMATS + "}")
+    public ResponseEntity<StreamingResponseBody> exportStudents(@PathVariable String format,
+                                                                @RequestParam(required = false) StudentStatus status,
+                                                                @RequestParam(required = false) String course,
+                                                                @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return ExportResponses.export(objectMapper, format, "students", acceptEncoding,
+                rows -> studentService.exportStudents(status, course, rows));
+    }
+
+    @ConditionalGet(Resource.STUDENTS)
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<Student>> getStudentById(@PathVariable Long id) {
         try {
@@ -46,6 +90,57 @@ public class StudentController {
         }
     }
 
+    @ConditionalGet({Resource.STUDENTS, Resource.FEES})
+    @GetMapping("/{id}/fee-summary")
+    public ResponseEntity<ApiResponse<StudentFeeSummaryDto>> getFeeSummary(@PathVariable Long id) {
+        try {
+            Optional<StudentFeeSummaryDto> summary = feeService.getFeeSummary(id);
+            if (summary.isPresent()) {
+                return ResponseEntity.ok(ApiResponse.success(summary.get(), "Fee summary retrieved successfully"));
+            } else {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("Student not found with id: " + id));
+            }
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error retrieving fee summary: " + e.getMessage()));
+        }
+    }
+
+    // Payments across all of the student's fees, oldest first; pages with ?after=<payment id>&limit=
+    @ConditionalGet(Resource.FEES)
+    @GetMapping("/{id}/payments")
+    public ResponseEntity<ApiResponse<List<Payment>>> getPayments(@PathVariable Long id,
+                                                                  @RequestParam(required = false) Long after,
+                                                                  @RequestParam(required = false) Integer limit) {
+        try {
+            if (after != null || limit != null) {
+                KeysetPage<Payment> page = feeService.getPaymentsByStudentIdPage(id, after, limit);
+                return ListResponses.page(page, "Student payments retrieved successfully");
+            }
+            List<Payment> payments = feeService.getPaymentsByStudentId(id);
+            return ResponseEntity.ok(ApiResponse.success(payments, "Student payments retrieved successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error retrieving student payments: " + e.getMessage()));
+        }
+    }
+
+    @ConditionalGet({Resource.STUDENTS, Resource.FEES})
+    @GetMapping("/fee-summaries")
+    public ResponseEntity<ApiResponse<List<StudentFeeSummaryDto>>> getFeeSummaries(@RequestParam List<Long> ids) {
+        try {
+            List<StudentFeeSummaryDto> summaries = feeService.getFeeSummaries(ids);
+            return ResponseEntity.ok(ApiResponse.success(summaries, "Fee summaries retrieved successfully"));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error retrieving fee summaries: " + e.getMessage()));
+        }
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<Student>> createStudent(@Valid @RequestBody Student student) {
         try {
@@ -61,6 +156,36 @@ public class StudentController {
         }
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<BulkImportResultDto>> importStudents(@RequestBody List<StudentImportDto> students,
+                                                                           @RequestParam(required = false) Integer batchSize) {
+        try {
+            BulkImportResultDto result = bulkImportService.importStudents(students, batchSize);
+            return ResponseEntity.ok(ApiResponse.success(result, importMessage(result)));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error importing students: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<BulkImportResultDto>> importStudentsCsv(@RequestBody String csv,
+                                                                              @RequestParam(required = false) Integer batchSize) {
+        try {
+            BulkImportResultDto result = bulkImportService.importCsv(csv, batchSize);
+            return ResponseEntity.ok(ApiResponse.success(result, importMessage(result)));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error importing students: " + e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Student>> updateStudent(@PathVariable Long id, @Valid @RequestBody Student studentDetails) {
         try {
@@ -89,10 +214,17 @@ public class StudentController {
         }
     }
 
+    @ConditionalGet(Resource.STUDENTS)
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<Student>>> searchStudents(@RequestParam String q) {
+    public ResponseEntity<ApiResponse<List<Student>>> searchStudents(@RequestParam String q,
+                                                                     @RequestParam(required = false) Long after,
+                                                                     @RequestParam(required = false) Integer limit) {
         try {
-            List<Student> students = studentService.searchStudents(q);
+            if (after != null) {
+                KeysetPage<Student> page = studentService.searchStudentsPage(q, after, limit);
+                return ListResponses.page(page, "Search completed successfully");
+            }
+            List<Student> students = studentService.searchStudents(q, limit);
             return ResponseEntity.ok(ApiResponse.success(students, "Search completed successfully"));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -100,9 +232,16 @@ public class StudentController {
         }
     }
 
+    @ConditionalGet(Resource.STUDENTS)
     @GetMapping("/status/{status}")
-    public ResponseEntity<ApiResponse<List<Student>>> getStudentsByStatus(@PathVariable String status) {
+    public ResponseEntity<ApiResponse<List<Student>>> getStudentsByStatus(@PathVariable StudentStatus status,
+                                                                          @RequestParam(required = false) Long after,
+                                                                          @RequestParam(required = false) Integer limit) {
         try {
+            if (after != null || limit != null) {
+                KeysetPage<Student> page = studentService.getStudentsByStatusPage(status, after, limit);
+                return ListResponses.page(page, "Students retrieved by status successfully");
+            }
             List<Student> students = studentService.getStudentsByStatus(status);
             return ResponseEntity.ok(ApiResponse.success(students, "Students retrieved by status successfully"));
         } catch (Exception e) {
@@ -111,9 +250,16 @@ public class StudentController {
         }
     }
 
+    @ConditionalGet(Resource.STUDENTS)
     @GetMapping("/course/{course}")
-    public ResponseEntity<ApiResponse<List<Student>>> getStudentsByCourse(@PathVariable String course) {
+    public ResponseEntity<ApiResponse<List<Student>>> getStudentsByCourse(@PathVariable String course,
+                                                                          @RequestParam(required = false) Long after,
+                                                                          @RequestParam(required = false) Integer limit) {
         try {
+            if (after != null || limit != null) {
+                KeysetPage<Student> page = studentService.getStudentsByCoursePage(course, after, limit);
+                return ListResponses.page(page, "Students retrieved by course successfully");
+            }
             List<Student> students = studentService.getStudentsByCourse(course);
             return ResponseEntity.ok(ApiResponse.success(students, "Students retrieved by course successfully"));
         } catch (Exception e) {
@@ -121,4 +267,8 @@ public class StudentController {
                     .body(ApiResponse.error("Error retrieving students by course: " + e.getMessage()));
         }
     }
+
+    private String importMessage(BulkImportResultDto result) {
+        return "Imported " + result.getImportedStudents() + " of " + result.getTotalRows() + " students";
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.studentmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkImportResultDto {
+    private int totalRows;
+    private int importedStudents;
+    private int importedFees;
+    private List<RowError> errors = new ArrayList<>();
+
+    public BulkImportResultDto() {}
+
+    public BulkImportResultDto(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public void addError(int row, String email, String message) {
+        errors.add(new RowError(row, email, message));
+    }
+
+    // Getters and Setters
+    public int getTotalRows() { return totalRows; }
+    public void setTotalRows(int totalRows) { this.totalRows = totalRows; }
+
+    public int getImportedStudents() { return importedStudents; }
+    public void setImportedStudents(int importedStudents) { this.importedStudents = importedStudents; }
+
+    public int getImportedFees() { return importedFees; }
+    public void setImportedFees(int importedFees) { this.importedFees = importedFees; }
+
+    public int getFailedRows() { return errors.size(); }
+
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+
+    public static class RowError {
+        private int row;
+        private String email;
+        private String message;
+
+        public RowError() {}
+
+        public RowError(int row, String email, String message) {
+            this.row = row;
+            this.email = email;
+            this.message = message;
+        }
+
+        public int getRow() { return row; }
+        public void setRow(int row) { this.row = row; }
+
+        public String getEmail() { return email; }
+        public void setEmail(String email) { this.email = email; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
@@ -2,6 +2,8 @@ package com.studentmanagement.dto;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 public class DashboardStatsDto {
     private Long totalStudents;
@@ -9,6 +11,10 @@ public class DashboardStatsDto {
     private BigDecimal feesCollected;
     private Long pendingInquiries;
     private LocalDateTime lastUpdated;
+    // Fields whose query missed the deadline; they are null in this response
+    private List<String> staleFields = new ArrayList<>();
+    // Fields whose query failed (the error is in the server log); they are null in this response
+    private List<String> failedFields = new ArrayList<>();
 
     public DashboardStatsDto() {
         this.lastUpdated = LocalDateTime.now();
@@ -38,4 +44,10 @@ public class DashboardStatsDto {
 
     public LocalDateTime getLastUpdated() { return lastUpdated; }
     public void setLastUpdated(LocalDateTime lastUpdated) { this.lastUpdated = lastUpdated; }
+
+    public List<String> getStaleFields() { return staleFields; }
+    public void setStaleFields(List<String> staleFields) { this.staleFields = staleFields; }
+
+    public List<String> getFailedFields() { return failedFields; }
+    public void setFailedFields(List<String> failedFields) { this.failedFields = failedFields; }
 }
\ No newline at end of file
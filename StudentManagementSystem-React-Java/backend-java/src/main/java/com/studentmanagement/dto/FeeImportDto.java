@@ -0,0 +1,28 @@
+package com.studentmanagement.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class FeeImportDto {
+    private String feeType;
+    private BigDecimal amount;
+    private LocalDateTime dueDate;
+
+    public FeeImportDto() {}
+
+    public FeeImportDto(String feeType, BigDecimal amount, LocalDateTime dueDate) {
+        this.feeType = feeType;
+        this.amount = amount;
+        this.dueDate = dueDate;
+    }
+
+    // Getters and Setters
+    public String getFeeType() { return feeType; }
+    public void setFeeType(String feeType) { this.feeType = feeType; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public LocalDateTime getDueDate() { return dueDate; }
+    public void setDueDate(LocalDateTime dueDate) { this.dueDate = dueDate; }
+}
@@ -0,0 +1,47 @@
+package com.studentmanagement.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public class KeysetPage<T> {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 1000;
+
+    private List<T> items;
+    private Long nextCursor;
+
+    public KeysetPage() {}
+
+    public KeysetPage(List<T> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Clamp a client-supplied page size into [1, MAX_LIMIT]
+    public static int size(Integer limit) {
+        if (limit == null || limit < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    // Rows are fetched with size + 1 so the extra row tells us whether another page exists
+    public static <T> KeysetPage<T> of(List<T> rows, int size, Function<T, Long> idOf) {
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new KeysetPage<>(items, idOf.apply(items.get(size - 1)));
+    }
+
+    // Getters and Setters
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public Long getNextCursor() { return nextCursor; }
+    public void setNextCursor(Long nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
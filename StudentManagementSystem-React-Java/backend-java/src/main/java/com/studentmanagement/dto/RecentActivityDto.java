@@ -3,6 +3,7 @@ package com.studentmanagement.dto;
 import java.time.LocalDateTime;
 
 public class RecentActivityDto {
+    private Long id;
     private String type;
     private String message;
     private String time;
@@ -17,7 +18,15 @@ public class RecentActivityDto {
         this.timestamp = timestamp;
     }
 
+    public RecentActivityDto(Long id, String type, String message, String time, LocalDateTime timestamp) {
+        this(type, message, time, timestamp);
+        this.id = id;
+    }
+
     // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
     public String getType() { return type; }
     public void setType(String type) { this.type = type; }
 
@@ -0,0 +1,48 @@
+package com.studentmanagement.dto;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class StudentFeeSummaryDto {
+    private Long studentId;
+    private long feeCount;
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+    private BigDecimal paidAmount = BigDecimal.ZERO;
+    private BigDecimal remainingAmount = BigDecimal.ZERO;
+    private Map<String, Long> statusCounts = new LinkedHashMap<>();
+
+    public StudentFeeSummaryDto() {}
+
+    public StudentFeeSummaryDto(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    // Folds one (student, status) group of the summary projection into the totals
+    public void addGroup(String status, long count, BigDecimal amount, BigDecimal paid) {
+        feeCount += count;
+        totalAmount = totalAmount.add(amount);
+        paidAmount = paidAmount.add(paid);
+        remainingAmount = totalAmount.subtract(paidAmount);
+        statusCounts.merge(status, count, Long::sum);
+    }
+
+    // Getters and Setters
+    public Long getStudentId() { return studentId; }
+    public void setStudentId(Long studentId) { this.studentId = studentId; }
+
+    public long getFeeCount() { return feeCount; }
+    public void setFeeCount(long feeCount) { this.feeCount = feeCount; }
+
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+
+    public BigDecimal getPaidAmount() { return paidAmount; }
+    public void setPaidAmount(BigDecimal paidAmount) { this.paidAmount = paidAmount; }
+
+    public BigDecimal getRemainingAmount() { return remainingAmount; }
+    public void setRemainingAmount(BigDecimal remainingAmount) { this.remainingAmount = remainingAmount; }
+
+    public Map<String, Long> getStatusCounts() { return statusCounts; }
+    public void setStatusCounts(Map<String, Long> statusCounts) { this.statusCounts = statusCounts; }
+}
@@ -0,0 +1,50 @@
+package com.studentmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StudentImportDto {
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private String dateOfBirth;
+    private String gender;
+    private String address;
+    private String course;
+    private String status;
+    private List<FeeImportDto> fees = new ArrayList<>();
+
+    public StudentImportDto() {}
+
+    // Getters and Setters
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+
+    public String getLastName() { return lastName; }
+    public void setLastName(String lastName) { this.lastName = lastName; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) { this.phone = phone; }
+
+    public String getDateOfBirth() { return dateOfBirth; }
+    public void setDateOfBirth(String dateOfBirth) { this.dateOfBirth = dateOfBirth; }
+
+    public String getGender() { return gender; }
+    public void setGender(String gender) { this.gender = gender; }
+
+    public String getAddress() { return address; }
+    public void setAddress(String address) { this.address = address; }
+
+    public String getCourse() { return course; }
+    public void setCourse(String course) { this.course = course; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public List<FeeImportDto> getFees() { return fees; }
+    public void setFees(List<FeeImportDto> fees) { this.fees = fees != null ? fees : new ArrayList<>(); }
+}
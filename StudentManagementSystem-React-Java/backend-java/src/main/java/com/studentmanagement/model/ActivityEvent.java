@@ -0,0 +1,45 @@
+package com.studentmanagement.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "activity_events")
+public class ActivityEvent {
+    // From activity_events_seq, taken by ActivityJournal so the in-memory ring and the table share one sequence
+    @Id
+    @Column(name = "event_sequence")
+    private Long sequence;
+
+    @Column(name = "type", nullable = false)
+    private String type;
+
+    @Column(name = "message", nullable = false, length = 500)
+    private String message;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+
+    // Constructors
+    public ActivityEvent() {}
+
+    public ActivityEvent(Long sequence, String type, String message, LocalDateTime createdDate) {
+        this.sequence = sequence;
+        this.type = type;
+        this.message = message;
+        this.createdDate = createdDate;
+    }
+
+    // Getters and Setters
+    public Long getSequence() { return sequence; }
+    public void setSequence(Long sequence) { this.sequence = sequence; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public LocalDateTime getCreatedDate() { return createdDate; }
+    public void setCreatedDate(LocalDateTime createdDate) { this.createdDate = createdDate; }
+}
@@ -0,0 +1,37 @@
+package com.studentmanagement.model;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// An enum stored as a small integer code (see CodedEnumConverter) and exchanged with clients as its label.
+// Codes are persisted: never renumber or reuse one
+public interface CodedEnum {
+
+    short getCode();
+
+    String getLabel();
+
+    // A label in any case, or the constant's name
+    static <E extends Enum<E> & CodedEnum> E parse(Class<E> type, String value) {
+        if (value != null) {
+            String trimmed = value.trim();
+            for (E constant : type.getEnumConstants()) {
+                if (constant.getLabel().equalsIgnoreCase(trimmed) || constant.name().equalsIgnoreCase(trimmed)) {
+                    return constant;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " '" + value + "', expected one of "
+                + Arrays.stream(type.getEnumConstants()).map(CodedEnum::getLabel).collect(Collectors.joining(", ")));
+    }
+
+    // SQL turning the column's codes back into labels, for reads that bypass JPA
+    static <E extends Enum<E> & CodedEnum> String labelSql(Class<E> type, String column) {
+        StringBuilder sql = new StringBuilder("CASE ").append(column);
+        for (E constant : type.getEnumConstants()) {
+            sql.append(" WHEN ").append(constant.getCode())
+                    .append(" THEN '").append(constant.getLabel().replace("'", "''")).append('\'');
+        }
+        return sql.append(" END").toString();
+    }
+}
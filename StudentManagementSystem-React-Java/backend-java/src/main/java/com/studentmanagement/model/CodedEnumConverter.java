@@ -0,0 +1,44 @@
+package com.studentmanagement.model;
+
+import jakarta.persistence.AttributeConverter;
+import java.lang.reflect.Array;
+
+// Persists a CodedEnum as its code; each enum declares an auto-applied subclass
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Short> {
+
+    private final Class<E> type;
+    private final E[] byCode;
+
+    @SuppressWarnings("unchecked")
+    protected CodedEnumConverter(Class<E> type) {
+        this.type = type;
+        int maxCode = 0;
+        for (E constant : type.getEnumConstants()) {
+            maxCode = Math.max(maxCode, constant.getCode());
+        }
+        this.byCode = (E[]) Array.newInstance(type, maxCode + 1);
+        for (E constant : type.getEnumConstants()) {
+            byCode[constant.getCode()] = constant;
+        }
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(E value) {
+        return value == null ? null : value.getCode();
+    }
+
+    @Override
+    public E convertToEntityAttribute(Short code) {
+        if (code == null) {
+            return null;
+        }
+        if (code < 0 || code >= byCode.length || byCode[code] == null) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code " + code);
+        }
+        return byCode[code];
+    }
+
+    public E fromCode(Number code) {
+        return code == null ? null : convertToEntityAttribute(code.shortValue());
+    }
+}
@@ -2,15 +2,22 @@ package com.studentmanagement.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.*;
 import java.time.LocalDateTime;
 import java.math.BigDecimal;
 
 @Entity
 @Table(name = "fees")
+// Second-level cache region "fees"; see application.conf for its bounds
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fees")
 public class Fee {
+    // Pooled sequence (not IDENTITY) so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fees_seq")
+    @SequenceGenerator(name = "fees_seq", sequenceName = "fees_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -18,9 +25,9 @@ public class Fee {
     @JsonIgnore
     private Student student;
 
-    @NotBlank(message = "Fee type is required")
+    @NotNull(message = "Fee type is required")
     @Column(name = "fee_type", nullable = false)
-    private String feeType;
+    private FeeType feeType;
 
     @NotNull(message = "Amount is required")
     @DecimalMin(value = "0.0", inclusive = false, message = "Amount must be greater than 0")
@@ -31,7 +38,7 @@ public class Fee {
     private BigDecimal paidAmount = BigDecimal.ZERO;
 
     @Column(name = "status")
-    private String status = "Pending";
+    private FeeStatus status = FeeStatus.PENDING;
 
     @Column(name = "due_date")
     private LocalDateTime dueDate;
@@ -48,21 +55,28 @@ public class Fee {
     @Column(name = "transaction_id")
     private String transactionId;
 
+    // Optimistic lock: concurrent payments against the same fee cannot overwrite each other. Internal, so neither
+    // written to clients nor taken from request bodies
+    @Version
+    @JsonIgnore
+    @Column(name = "version")
+    private Long version;
+
     // Constructors
     public Fee() {
         this.createdDate = LocalDateTime.now();
         this.paidAmount = BigDecimal.ZERO;
-        this.status = "Pending";
+        this.status = FeeStatus.PENDING;
     }
 
-    public Fee(Student student, String feeType, BigDecimal amount, LocalDateTime dueDate) {
+    public Fee(Student student, FeeType feeType, BigDecimal amount, LocalDateTime dueDate) {
         this.student = student;
         this.feeType = feeType;
         this.amount = amount;
         this.dueDate = dueDate;
         this.createdDate = LocalDateTime.now();
         this.paidAmount = BigDecimal.ZERO;
-        this.status = "Pending";
+        this.status = FeeStatus.PENDING;
     }
 
     // Getters and Setters
@@ -72,8 +86,8 @@ public class Fee {
     public Student getStudent() { return student; }
     public void setStudent(Student student) { this.student = student; }
 
-    public String getFeeType() { return feeType; }
-    public void setFeeType(String feeType) { this.feeType = feeType; }
+    public FeeType getFeeType() { return feeType; }
+    public void setFeeType(FeeType feeType) { this.feeType = feeType; }
 
     public BigDecimal getAmount() { return amount; }
     public void setAmount(BigDecimal amount) { this.amount = amount; }
@@ -81,8 +95,8 @@ public class Fee {
     public BigDecimal getPaidAmount() { return paidAmount; }
     public void setPaidAmount(BigDecimal paidAmount) { this.paidAmount = paidAmount; }
 
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+    public FeeStatus getStatus() { return status; }
+    public void setStatus(FeeStatus status) { this.status = status; }
 
     public LocalDateTime getDueDate() { return dueDate; }
     public void setDueDate(LocalDateTime dueDate) { this.dueDate = dueDate; }
@@ -99,6 +113,9 @@ public class Fee {
     public String getTransactionId() { return transactionId; }
     public void setTransactionId(String transactionId) { this.transactionId = transactionId; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     // Helper methods
     public BigDecimal getRemainingAmount() {
         return amount.subtract(paidAmount);
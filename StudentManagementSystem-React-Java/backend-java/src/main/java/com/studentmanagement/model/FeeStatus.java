@@ -0,0 +1,41 @@
+package com.studentmanagement.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import jakarta.persistence.Converter;
+
+// fees.status; a fee not fully paid by its due date becomes Overdue (OverdueFeeService)
+public enum FeeStatus implements CodedEnum {
+    PENDING(1, "Pending"),
+    PARTIALLY_PAID(2, "Partially Paid"),
+    PAID(3, "Paid"),
+    OVERDUE(4, "Overdue");
+
+    private final short code;
+    private final String label;
+
+    FeeStatus(int code, String label) {
+        this.code = (short) code;
+        this.label = label;
+    }
+
+    @Override
+    public short getCode() { return code; }
+
+    @Override
+    @JsonValue
+    public String getLabel() { return label; }
+
+    @JsonCreator
+    public static FeeStatus fromLabel(String value) {
+        return CodedEnum.parse(FeeStatus.class, value);
+    }
+
+    @Override
+    public String toString() { return label; }
+
+    @Converter(autoApply = true)
+    public static class ColumnConverter extends CodedEnumConverter<FeeStatus> {
+        public ColumnConverter() { super(FeeStatus.class); }
+    }
+}
@@ -0,0 +1,43 @@
+package com.studentmanagement.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import jakarta.persistence.Converter;
+
+// fees.fee_type; Other Fee stands in for types from before the column was coded
+public enum FeeType implements CodedEnum {
+    TUITION(1, "Tuition Fee"),
+    LIBRARY(2, "Library Fee"),
+    LAB(3, "Lab Fee"),
+    EXAM(4, "Exam Fee"),
+    HOSTEL(5, "Hostel Fee"),
+    OTHER(6, "Other Fee");
+
+    private final short code;
+    private final String label;
+
+    FeeType(int code, String label) {
+        this.code = (short) code;
+        this.label = label;
+    }
+
+    @Override
+    public short getCode() { return code; }
+
+    @Override
+    @JsonValue
+    public String getLabel() { return label; }
+
+    @JsonCreator
+    public static FeeType fromLabel(String value) {
+        return CodedEnum.parse(FeeType.class, value);
+    }
+
+    @Override
+    public String toString() { return label; }
+
+    @Converter(autoApply = true)
+    public static class ColumnConverter extends CodedEnumConverter<FeeType> {
+        public ColumnConverter() { super(FeeType.class); }
+    }
+}
@@ -37,7 +37,7 @@ public class Inquiry {
     private String message;
 
     @Column(name = "status")
-    private String status = "Pending";
+    private InquiryStatus status = InquiryStatus.PENDING;
 
     @Column(name = "created_date")
     private LocalDateTime createdDate;
@@ -48,10 +48,17 @@ public class Inquiry {
     @Column(name = "response_date")
     private LocalDateTime responseDate;
 
+    // Work-queue lease: the staff member working this inquiry, until the lease expires
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
     // Constructors
     public Inquiry() {
         this.createdDate = LocalDateTime.now();
-        this.status = "Pending";
+        this.status = InquiryStatus.PENDING;
     }
 
     public Inquiry(String name, String email, String phone, String subject, String message) {
@@ -61,7 +68,7 @@ public class Inquiry {
         this.subject = subject;
         this.message = message;
         this.createdDate = LocalDateTime.now();
-        this.status = "Pending";
+        this.status = InquiryStatus.PENDING;
     }
 
     // Getters and Setters
@@ -83,8 +90,8 @@ public class Inquiry {
     public String getMessage() { return message; }
     public void setMessage(String message) { this.message = message; }
 
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+    public InquiryStatus getStatus() { return status; }
+    public void setStatus(InquiryStatus status) { this.status = status; }
 
     public LocalDateTime getCreatedDate() { return createdDate; }
     public void setCreatedDate(LocalDateTime createdDate) { this.createdDate = createdDate; }
@@ -94,4 +101,14 @@ public class Inquiry {
 
     public LocalDateTime getResponseDate() { return responseDate; }
     public void setResponseDate(LocalDateTime responseDate) { this.responseDate = responseDate; }
-}
\ No newline at end of file
+
+    public String getLeaseOwner() { return leaseOwner; }
+    public void setLeaseOwner(String leaseOwner) { this.leaseOwner = leaseOwner; }
+
+    public LocalDateTime getLeaseExpiresAt() { return leaseExpiresAt; }
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) { this.leaseExpiresAt = leaseExpiresAt; }
+
+    public boolean isLeasedToOtherThan(String owner, LocalDateTime now) {
+        return leaseOwner != null && leaseExpiresAt != null && leaseExpiresAt.isAfter(now) && !leaseOwner.equals(owner);
+    }
+}
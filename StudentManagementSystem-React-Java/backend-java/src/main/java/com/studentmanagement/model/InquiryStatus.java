@@ -0,0 +1,40 @@
+package com.studentmanagement.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import jakarta.persistence.Converter;
+
+// inquiries.status
+public enum InquiryStatus implements CodedEnum {
+    PENDING(1, "Pending"),
+    RESPONDED(2, "Responded"),
+    CLOSED(3, "Closed");
+
+    private final short code;
+    private final String label;
+
+    InquiryStatus(int code, String label) {
+        this.code = (short) code;
+        this.label = label;
+    }
+
+    @Override
+    public short getCode() { return code; }
+
+    @Override
+    @JsonValue
+    public String getLabel() { return label; }
+
+    @JsonCreator
+    public static InquiryStatus fromLabel(String value) {
+        return CodedEnum.parse(InquiryStatus.class, value);
+    }
+
+    @Override
+    public String toString() { return label; }
+
+    @Converter(autoApply = true)
+    public static class ColumnConverter extends CodedEnumConverter<InquiryStatus> {
+        public ColumnConverter() { super(InquiryStatus.class); }
+    }
+}
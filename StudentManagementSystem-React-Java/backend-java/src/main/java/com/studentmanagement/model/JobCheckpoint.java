@@ -0,0 +1,62 @@
+package com.studentmanagement.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "job_checkpoints")
+public class JobCheckpoint {
+    @Id
+    @Column(name = "job_name", length = 255)
+    private String jobName;
+
+    // Highest id already processed by the current run
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+
+    // Start (and cutoff) of the run in progress; null once it has finished
+    @Column(name = "run_started")
+    private LocalDateTime runStarted;
+
+    // Node holding the job, and until when; written only by JobCheckpointRepository's conditional updates
+    @Column(name = "run_owner", length = 255)
+    private String runOwner;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "updated_date", nullable = false)
+    private LocalDateTime updatedDate;
+
+    // Constructors
+    public JobCheckpoint() {}
+
+    public JobCheckpoint(String jobName) {
+        this.jobName = jobName;
+        this.lastId = 0L;
+        this.updatedDate = LocalDateTime.now();
+    }
+
+    public boolean isRunning() {
+        return runStarted != null;
+    }
+
+    // Getters and Setters
+    public String getJobName() { return jobName; }
+    public void setJobName(String jobName) { this.jobName = jobName; }
+
+    public Long getLastId() { return lastId; }
+    public void setLastId(Long lastId) { this.lastId = lastId; }
+
+    public LocalDateTime getRunStarted() { return runStarted; }
+    public void setRunStarted(LocalDateTime runStarted) { this.runStarted = runStarted; }
+
+    public String getRunOwner() { return runOwner; }
+    public void setRunOwner(String runOwner) { this.runOwner = runOwner; }
+
+    public LocalDateTime getClaimedUntil() { return claimedUntil; }
+    public void setClaimedUntil(LocalDateTime claimedUntil) { this.claimedUntil = claimedUntil; }
+
+    public LocalDateTime getUpdatedDate() { return updatedDate; }
+    public void setUpdatedDate(LocalDateTime updatedDate) { this.updatedDate = updatedDate; }
+}
@@ -0,0 +1,80 @@
+package com.studentmanagement.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// One row per payment, never updated and deleted only with its fee; the fee's paid amount is a snapshot of these rows
+@Entity
+@Immutable
+@Table(name = "payments")
+public class Payment {
+    // Pooled sequence like fees: appending a payment is a single INSERT, with no sequence round trip
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "fee_id", nullable = false)
+    private Long feeId;
+
+    // Copied from the fee so a student's history needs no join
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "amount", nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "payment_method")
+    private String paymentMethod;
+
+    @Column(name = "transaction_id", nullable = false)
+    private String transactionId;
+
+    @Column(name = "paid_date", nullable = false)
+    private LocalDateTime paidDate;
+
+    // Running balance: the fee's paid amount once this payment was applied
+    @Column(name = "paid_amount_after", nullable = false)
+    private BigDecimal paidAmountAfter;
+
+    // Constructors
+    protected Payment() {}
+
+    // Records a payment already applied to the fee's snapshot
+    public Payment(Fee fee, BigDecimal amount, String paymentMethod, String transactionId, LocalDateTime paidDate) {
+        this.feeId = fee.getId();
+        this.studentId = fee.getStudent().getId();
+        this.amount = amount;
+        this.paymentMethod = paymentMethod;
+        this.transactionId = transactionId;
+        this.paidDate = paidDate;
+        this.paidAmountAfter = fee.getPaidAmount();
+    }
+
+    // A fee created with an amount already paid opens its ledger with one entry for it
+    public static Payment openingBalance(Fee fee) {
+        String transactionId = fee.getTransactionId() != null ? fee.getTransactionId() : "opening-" + fee.getId();
+        LocalDateTime paidDate = fee.getPaidDate() != null ? fee.getPaidDate() : fee.getCreatedDate();
+        return new Payment(fee, fee.getPaidAmount(), fee.getPaymentMethod(), transactionId,
+                paidDate != null ? paidDate : LocalDateTime.now());
+    }
+
+    // Getters (payments are never modified once recorded)
+    public Long getId() { return id; }
+
+    public Long getFeeId() { return feeId; }
+
+    public Long getStudentId() { return studentId; }
+
+    public BigDecimal getAmount() { return amount; }
+
+    public String getPaymentMethod() { return paymentMethod; }
+
+    public String getTransactionId() { return transactionId; }
+
+    public LocalDateTime getPaidDate() { return paidDate; }
+
+    public BigDecimal getPaidAmountAfter() { return paidAmountAfter; }
+}
@@ -0,0 +1,53 @@
+package com.studentmanagement.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "payment_idempotency_keys")
+public class PaymentIdempotencyKey {
+    // Client-supplied Idempotency-Key header; the primary key rejects a concurrent duplicate
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    @Column(name = "fee_id", nullable = false)
+    private Long feeId;
+
+    @Column(name = "amount", nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "transaction_id", nullable = false)
+    private String transactionId;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+
+    // Constructors
+    public PaymentIdempotencyKey() {}
+
+    public PaymentIdempotencyKey(String key, Long feeId, BigDecimal amount, String transactionId) {
+        this.key = key;
+        this.feeId = feeId;
+        this.amount = amount;
+        this.transactionId = transactionId;
+        this.createdDate = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getKey() { return key; }
+    public void setKey(String key) { this.key = key; }
+
+    public Long getFeeId() { return feeId; }
+    public void setFeeId(Long feeId) { this.feeId = feeId; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public String getTransactionId() { return transactionId; }
+    public void setTransactionId(String transactionId) { this.transactionId = transactionId; }
+
+    public LocalDateTime getCreatedDate() { return createdDate; }
+    public void setCreatedDate(LocalDateTime createdDate) { this.createdDate = createdDate; }
+}
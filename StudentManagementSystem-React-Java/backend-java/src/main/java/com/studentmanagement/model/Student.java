@@ -2,15 +2,22 @@ package com.studentmanagement.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.*;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
 @Table(name = "students")
+// Second-level cache region "students"; see application.conf for its bounds
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "students")
 public class Student {
+    // Pooled sequence (not IDENTITY) so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "First name is required")
@@ -53,7 +60,7 @@ public class Student {
     private LocalDateTime enrollmentDate;
 
     @Column(name = "status")
-    private String status = "Active";
+    private StudentStatus status = StudentStatus.ACTIVE;
 
     @OneToMany(mappedBy = "student", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
@@ -75,7 +82,7 @@ public class Student {
         this.address = address;
         this.course = course;
         this.enrollmentDate = LocalDateTime.now();
-        this.status = "Active";
+        this.status = StudentStatus.ACTIVE;
     }
 
     // Getters and Setters
@@ -109,8 +116,8 @@ public class Student {
     public LocalDateTime getEnrollmentDate() { return enrollmentDate; }
     public void setEnrollmentDate(LocalDateTime enrollmentDate) { this.enrollmentDate = enrollmentDate; }
 
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+    public StudentStatus getStatus() { return status; }
+    public void setStatus(StudentStatus status) { this.status = status; }
 
     public List<Fee> getFees() { return fees; }
     public void setFees(List<Fee> fees) { this.fees = fees; }
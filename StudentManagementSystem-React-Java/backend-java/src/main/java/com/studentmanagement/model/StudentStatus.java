@@ -0,0 +1,40 @@
+package com.studentmanagement.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import jakarta.persistence.Converter;
+
+// students.status
+public enum StudentStatus implements CodedEnum {
+    ACTIVE(1, "Active"),
+    INACTIVE(2, "Inactive"),
+    GRADUATED(3, "Graduated");
+
+    private final short code;
+    private final String label;
+
+    StudentStatus(int code, String label) {
+        this.code = (short) code;
+        this.label = label;
+    }
+
+    @Override
+    public short getCode() { return code; }
+
+    @Override
+    @JsonValue
+    public String getLabel() { return label; }
+
+    @JsonCreator
+    public static StudentStatus fromLabel(String value) {
+        return CodedEnum.parse(StudentStatus.class, value);
+    }
+
+    @Override
+    public String toString() { return label; }
+
+    @Converter(autoApply = true)
+    public static class ColumnConverter extends CodedEnumConverter<StudentStatus> {
+        public ColumnConverter() { super(StudentStatus.class); }
+    }
+}
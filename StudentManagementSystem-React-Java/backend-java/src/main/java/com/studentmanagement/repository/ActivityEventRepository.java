@@ -0,0 +1,20 @@
+package com.studentmanagement.repository;
+
+import com.studentmanagement.model.ActivityEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ActivityEventRepository extends JpaRepository<ActivityEvent, Long> {
+    
+    Optional<ActivityEvent> findTopByOrderBySequenceDesc();
+    
+    List<ActivityEvent> findAllByOrderBySequenceDesc(Limit limit);
+    
+    List<ActivityEvent> findBySequenceLessThanOrderBySequenceDesc(Long beforeSequence, Limit limit);
+    
+    List<ActivityEvent> findBySequenceGreaterThanOrderBySequenceAsc(Long afterSequence, Limit limit);
+}
@@ -1,12 +1,18 @@
 package com.studentmanagement.repository;
 
 import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.FeeType;
 import com.studentmanagement.model.Student;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,19 +22,55 @@ public interface FeeRepository extends JpaRepository<Fee, Long> {
     
     List<Fee> findByStudentId(Long studentId);
     
-    List<Fee> findByStatus(String status);
+    List<Fee> findByStatus(FeeStatus status);
     
-    List<Fee> findByFeeType(String feeType);
+    List<Fee> findByFeeType(FeeType feeType);
     
-    @Query("SELECT SUM(f.paidAmount) FROM Fee f WHERE f.status = 'Paid'")
+    // Keyset pages: ordered by primary key so each page is an index range scan
+    List<Fee> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+    
+    List<Fee> findByStudentIdAndIdGreaterThanOrderByIdAsc(Long studentId, Long afterId, Limit limit);
+    
+    List<Fee> findByStatusAndIdGreaterThanOrderByIdAsc(FeeStatus status, Long afterId, Limit limit);
+    
+    List<Fee> findByFeeTypeAndIdGreaterThanOrderByIdAsc(FeeType feeType, Long afterId, Limit limit);
+    
+    // Overdue detection walks fees in primary-key chunks; the last id of a chunk bounds its update
+    @Query("SELECT f.id FROM Fee f WHERE f.id > :afterId ORDER BY f.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    // Fees with this (unpaid) status in (afterId, upToId] due before the cutoff. One status per statement: with an
+    // IN list H2 cannot range-scan (status, id), and each chunk would read every unpaid fee. The version bump makes
+    // a payment that read the fee before this update retry against the new status rather than overwrite it
+    @Modifying
+    @Query("UPDATE Fee f SET f.status = com.studentmanagement.model.FeeStatus.OVERDUE, f.version = f.version + 1 WHERE f.status = :status " +
+           "AND f.id > :afterId AND f.id <= :upToId AND f.dueDate < :cutoff")
+    int markOverdue(@Param("status") FeeStatus status, @Param("afterId") Long afterId, @Param("upToId") Long upToId,
+                    @Param("cutoff") LocalDateTime cutoff);
+    
+    @Query("SELECT SUM(f.paidAmount) FROM Fee f WHERE f.status = com.studentmanagement.model.FeeStatus.PAID")
     BigDecimal getTotalFeesCollected();
     
-    @Query("SELECT SUM(f.amount - f.paidAmount) FROM Fee f WHERE f.status != 'Paid'")
+    @Query("SELECT SUM(f.amount - f.paidAmount) FROM Fee f WHERE f.status != com.studentmanagement.model.FeeStatus.PAID")
     BigDecimal getTotalPendingFees();
     
-    @Query("SELECT f FROM Fee f WHERE f.student.id = :studentId AND f.status = 'Pending'")
+    @Query("SELECT f FROM Fee f WHERE f.student.id = :studentId AND f.status = com.studentmanagement.model.FeeStatus.PENDING")
     List<Fee> findPendingFeesByStudentId(@Param("studentId") Long studentId);
     
-    @Query("SELECT COUNT(f) FROM Fee f WHERE f.status = 'Pending'")
+    @Query("SELECT COUNT(f) FROM Fee f WHERE f.status = com.studentmanagement.model.FeeStatus.PENDING")
     Long countPendingFees();
+    
+    // One row per (student, status); a student without fees yields a single row with a null status and zero count
+    @Query("SELECT s.id AS studentId, f.status AS status, COUNT(f.id) AS feeCount, " +
+           "COALESCE(SUM(f.amount), 0) AS totalAmount, COALESCE(SUM(f.paidAmount), 0) AS paidAmount " +
+           "FROM Student s LEFT JOIN s.fees f WHERE s.id IN :studentIds GROUP BY s.id, f.status")
+    List<FeeStatusTotals> summarizeByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+    
+    interface FeeStatusTotals {
+        Long getStudentId();
+        FeeStatus getStatus();
+        Long getFeeCount();
+        BigDecimal getTotalAmount();
+        BigDecimal getPaidAmount();
+    }
 }
\ No newline at end of file
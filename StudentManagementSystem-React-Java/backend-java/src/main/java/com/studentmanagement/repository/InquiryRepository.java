@@ -1,21 +1,58 @@
 package com.studentmanagement.repository;
 
 import com.studentmanagement.model.Inquiry;
+import com.studentmanagement.model.InquiryStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
     
-    List<Inquiry> findByStatus(String status);
+    List<Inquiry> findByStatus(InquiryStatus status);
     
     List<Inquiry> findByEmail(String email);
     
-    @Query("SELECT COUNT(i) FROM Inquiry i WHERE i.status = 'Pending'")
+    @Query("SELECT COUNT(i) FROM Inquiry i WHERE i.status = com.studentmanagement.model.InquiryStatus.PENDING")
     Long countPendingInquiries();
     
     @Query("SELECT i FROM Inquiry i ORDER BY i.createdDate DESC")
     List<Inquiry> findAllOrderByCreatedDateDesc();
-}
\ No newline at end of file
+    
+    // Keyset pages run newest first; ids are assigned in creation order
+    List<Inquiry> findByIdLessThanOrderByIdDesc(Long beforeId, Limit limit);
+    
+    List<Inquiry> findByStatusAndIdLessThanOrderByIdDesc(InquiryStatus status, Long beforeId, Limit limit);
+    
+    // Work queue: oldest pending inquiries without a live lease. This is only a snapshot; claim() takes them
+    @Query("SELECT i.id FROM Inquiry i WHERE i.status = com.studentmanagement.model.InquiryStatus.PENDING " +
+           "AND (i.leaseExpiresAt IS NULL OR i.leaseExpiresAt <= :now) ORDER BY i.createdDate, i.id")
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, Limit limit);
+    
+    // Leases whichever of the ids are still claimable, in one short transaction of its own. A row a
+    // concurrent claim got first fails the re-checked condition instead of being leased twice
+    @Modifying
+    @Transactional
+    @Query("UPDATE Inquiry i SET i.leaseOwner = :owner, i.leaseExpiresAt = :expiresAt WHERE i.id IN :ids " +
+           "AND i.status = com.studentmanagement.model.InquiryStatus.PENDING AND (i.leaseExpiresAt IS NULL OR i.leaseExpiresAt <= :now)")
+    int claim(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+              @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT i FROM Inquiry i WHERE i.id IN :ids AND i.leaseOwner = :owner AND i.leaseExpiresAt = :expiresAt")
+    List<Inquiry> findClaimed(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+                              @Param("expiresAt") LocalDateTime expiresAt);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Inquiry i WHERE i.id = :id")
+    Optional<Inquiry> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,42 @@
+package com.studentmanagement.repository;
+
+import com.studentmanagement.model.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+
+// Claims are conditional updates on the job's row: whichever node's update matches holds the job, across nodes
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+
+    // 1 if the owner now holds the job: nobody held it, the owner already did, or the last claim lapsed
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobCheckpoint c SET c.runOwner = :owner, c.claimedUntil = :until, c.updatedDate = :now " +
+           "WHERE c.jobName = :jobName AND (c.runOwner IS NULL OR c.runOwner = :owner OR c.claimedUntil < :now)")
+    int claim(@Param("jobName") String jobName, @Param("owner") String owner, @Param("until") LocalDateTime until,
+              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobCheckpoint c SET c.lastId = 0, c.runStarted = :started, c.updatedDate = :started " +
+           "WHERE c.jobName = :jobName AND c.runOwner = :owner")
+    int startRun(@Param("jobName") String jobName, @Param("owner") String owner, @Param("started") LocalDateTime started);
+
+    // Progress and a longer claim in one; 0 once another node has taken the job over
+    @Modifying
+    @Query("UPDATE JobCheckpoint c SET c.lastId = :lastId, c.claimedUntil = :until, c.updatedDate = :now " +
+           "WHERE c.jobName = :jobName AND c.runOwner = :owner")
+    int advance(@Param("jobName") String jobName, @Param("owner") String owner, @Param("lastId") Long lastId,
+                @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobCheckpoint c SET c.runStarted = NULL, c.runOwner = NULL, c.claimedUntil = NULL, " +
+           "c.updatedDate = :now WHERE c.jobName = :jobName AND c.runOwner = :owner")
+    int finishRun(@Param("jobName") String jobName, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
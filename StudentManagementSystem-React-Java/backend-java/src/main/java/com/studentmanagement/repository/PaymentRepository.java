@@ -0,0 +1,43 @@
+package com.studentmanagement.repository;
+
+import com.studentmanagement.model.Payment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+    
+    List<Payment> findByFeeIdOrderByIdAsc(Long feeId);
+    
+    List<Payment> findByStudentIdOrderByIdAsc(Long studentId);
+    
+    List<Payment> findByFeeIdAndIdGreaterThanOrderByIdAsc(Long feeId, Long afterId, Limit limit);
+    
+    List<Payment> findByStudentIdAndIdGreaterThanOrderByIdAsc(Long studentId, Long afterId, Limit limit);
+    
+    // Ledger totals for a chunk of fees; fees without payments have no row
+    @Query("SELECT p.feeId AS feeId, SUM(p.amount) AS paidAmount FROM Payment p " +
+           "WHERE p.feeId IN :feeIds GROUP BY p.feeId")
+    List<FeeLedgerTotal> sumByFeeIds(@Param("feeIds") Collection<Long> feeIds);
+    
+    // A fee's ledger is deleted with the fee, in the deleting transaction
+    @Modifying
+    @Query("DELETE FROM Payment p WHERE p.feeId = :feeId")
+    int deleteByFeeId(@Param("feeId") Long feeId);
+    
+    @Modifying
+    @Query("DELETE FROM Payment p WHERE p.studentId = :studentId")
+    int deleteByStudentId(@Param("studentId") Long studentId);
+    
+    interface FeeLedgerTotal {
+        Long getFeeId();
+        BigDecimal getPaidAmount();
+    }
+}
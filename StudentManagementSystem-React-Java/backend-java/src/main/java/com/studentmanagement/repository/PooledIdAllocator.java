@@ -0,0 +1,59 @@
+package com.studentmanagement.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Hands out ids for raw JDBC inserts from the same pooled sequence Hibernate uses, following
+// Hibernate's pooled optimizer: a sequence value v reserves the block [v - allocationSize + 1, v]
+public class PooledIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sequenceName;
+    private final String nextValueSql;
+    private final int allocationSize;
+    private long next;
+    private long hi = -1;
+
+    public PooledIdAllocator(JdbcTemplate jdbcTemplate, String sequenceName, int allocationSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sequenceName = sequenceName;
+        this.nextValueSql = "SELECT NEXT VALUE FOR " + sequenceName;
+        this.allocationSize = allocationSize;
+    }
+
+    public static PooledIdAllocator students(JdbcTemplate jdbcTemplate) {
+        return new PooledIdAllocator(jdbcTemplate, "students_seq", 50);
+    }
+
+    public static PooledIdAllocator fees(JdbcTemplate jdbcTemplate) {
+        return new PooledIdAllocator(jdbcTemplate, "fees_seq", 50);
+    }
+
+    public static PooledIdAllocator payments(JdbcTemplate jdbcTemplate) {
+        return new PooledIdAllocator(jdbcTemplate, "payments_seq", 50);
+    }
+
+    // count consecutive ids for a bulk load, returning the first. The sequence restarts past them in one step,
+    // so nothing else may draw from it meanwhile
+    public synchronized long reserve(long count) {
+        long value = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+        if (value < allocationSize) {
+            value = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+        }
+        long blocks = (count + allocationSize - 1) / allocationSize;
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequenceName + " RESTART WITH " + (value + blocks * allocationSize));
+        return value - allocationSize + 1;
+    }
+
+    public synchronized long nextId() {
+        if (next > hi) {
+            long value = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+            if (value < allocationSize) {
+                // The sequence's initial value has no full block below it; skip to the next one
+                value = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+            }
+            hi = value;
+            next = value - allocationSize + 1;
+        }
+        return next++;
+    }
+}
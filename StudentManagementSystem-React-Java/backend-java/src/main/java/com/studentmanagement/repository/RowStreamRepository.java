@@ -0,0 +1,186 @@
+package com.studentmanagement.repository;
+
+import com.studentmanagement.model.CodedEnum;
+import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.FeeType;
+import com.studentmanagement.model.Inquiry;
+import com.studentmanagement.model.InquiryStatus;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// Forward-only JDBC cursors for list endpoints that must not materialize the whole result. H2 only streams when the
+// order can be read off an index: unfiltered or with a single filter column. Combined filters, and inquiries newest
+// first, are sorted (and so held) by the database before the first row comes back
+@Repository
+public class RowStreamRepository {
+
+    public static final int FETCH_SIZE = 500;
+
+    // Export columns, in output order; internal bookkeeping (fee version, inquiry leases) is left out. Coded
+    // columns are exported as their labels
+    private static final String STUDENT_EXPORT_COLUMNS = "id, first_name, last_name, email, phone, date_of_birth, " +
+            "gender, address, course, enrollment_date, " + CodedEnum.labelSql(StudentStatus.class, "status") + " AS status";
+    private static final String FEE_EXPORT_COLUMNS = "id, student_id, " +
+            CodedEnum.labelSql(FeeType.class, "fee_type") + " AS fee_type, amount, paid_amount, " +
+            CodedEnum.labelSql(FeeStatus.class, "status") + " AS status, due_date, " +
+            "created_date, paid_date, payment_method, transaction_id";
+    private static final String INQUIRY_EXPORT_COLUMNS = "id, name, email, phone, subject, message, " +
+            CodedEnum.labelSql(InquiryStatus.class, "status") + " AS status, created_date, response, response_date";
+
+    private static final RowMapper<Student> STUDENT_MAPPER = mapper(Student.class);
+    private static final RowMapper<Fee> FEE_MAPPER = mapper(Fee.class);
+    private static final RowMapper<Inquiry> INQUIRY_MAPPER = mapper(Inquiry.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Transactional(readOnly = true)
+    public void streamStudents(StudentStatus status, String course, Consumer<? super Student> consumer) {
+        Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("status", status);
+        filters.put("course", course);
+        stream("students", filters, order("students", filters), STUDENT_MAPPER, consumer);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamFees(Long studentId, FeeStatus status, FeeType feeType, Consumer<? super Fee> consumer) {
+        Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("student_id", studentId);
+        filters.put("status", status);
+        filters.put("fee_type", feeType);
+        stream("fees", filters, order("fees", filters), FEE_MAPPER, consumer);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamInquiries(InquiryStatus status, Consumer<? super Inquiry> consumer) {
+        Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("status", status);
+        stream("inquiries", filters, "id DESC", INQUIRY_MAPPER, consumer);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportStudents(StudentStatus status, String course, ResultSetExtractor<?> extractor) {
+        Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("status", status);
+        filters.put("course", course);
+        query("students", STUDENT_EXPORT_COLUMNS, filters, order("students", filters), extractor);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportFees(Long studentId, FeeStatus status, FeeType feeType, ResultSetExtractor<?> extractor) {
+        Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("student_id", studentId);
+        filters.put("status", status);
+        filters.put("fee_type", feeType);
+        query("fees", FEE_EXPORT_COLUMNS, filters, order("fees", filters), extractor);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportInquiries(InquiryStatus status, ResultSetExtractor<?> extractor) {
+        Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("status", status);
+        query("inquiries", INQUIRY_EXPORT_COLUMNS, filters, order("inquiries", filters), extractor);
+    }
+
+    private <T> void stream(String table, Map<String, Object> filters, String orderBy,
+                            RowMapper<T> mapper, Consumer<? super T> consumer) {
+        query(table, "*", filters, orderBy, rs -> {
+            while (rs.next()) {
+                consumer.accept(mapper.mapRow(rs, rs.getRow()));
+            }
+            return null;
+        });
+    }
+
+    private void query(String table, String columns, Map<String, Object> filters, String orderBy,
+                       ResultSetExtractor<?> extractor) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(columns).append(" FROM ").append(table);
+        List<Object> args = new ArrayList<>();
+        for (Map.Entry<String, Object> filter : filters.entrySet()) {
+            if (filter.getValue() != null) {
+                sql.append(args.isEmpty() ? " WHERE " : " AND ").append(table).append('.').append(filter.getKey())
+                        .append(" = ?");
+                args.add(filter.getValue() instanceof CodedEnum coded ? coded.getCode() : filter.getValue());
+            }
+        }
+        sql.append(" ORDER BY ").append(orderBy);
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            boolean lazy = enableLazyExecution(con);
+            try (PreparedStatement ps = con.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                ps.setFetchSize(FETCH_SIZE);
+                for (int i = 0; i < args.size(); i++) {
+                    ps.setObject(i + 1, args.get(i));
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    extractor.extractData(rs);
+                }
+            } finally {
+                if (lazy) {
+                    setLazyExecution(con, false);
+                }
+            }
+            return null;
+        });
+    }
+
+    // Id order. Ordering by the first filter column before id (the same order, as the column is fixed) lets H2 walk
+    // that filter's (column, id) index instead of sorting the whole result first. Qualified, as the export's label
+    // columns reuse the names
+    private static String order(String table, Map<String, Object> filters) {
+        for (Map.Entry<String, Object> filter : filters.entrySet()) {
+            if (filter.getValue() != null) {
+                return table + "." + filter.getKey() + ", " + table + ".id";
+            }
+        }
+        return "id";
+    }
+
+    // Coded columns come back as Integer codes, which the default conversion would take for ordinals
+    private static <T> RowMapper<T> mapper(Class<T> type) {
+        DefaultConversionService conversions = new DefaultConversionService();
+        conversions.addConverter(Integer.class, StudentStatus.class, new StudentStatus.ColumnConverter()::fromCode);
+        conversions.addConverter(Integer.class, FeeStatus.class, new FeeStatus.ColumnConverter()::fromCode);
+        conversions.addConverter(Integer.class, FeeType.class, new FeeType.ColumnConverter()::fromCode);
+        conversions.addConverter(Integer.class, InquiryStatus.class, new InquiryStatus.ColumnConverter()::fromCode);
+        BeanPropertyRowMapper<T> mapper = new BeanPropertyRowMapper<>(type);
+        mapper.setConversionService(conversions);
+        return mapper;
+    }
+
+    // H2 otherwise builds the complete result in memory before returning the first row, whatever the fetch size
+    private static boolean enableLazyExecution(Connection con) throws SQLException {
+        if (!"H2".equals(con.getMetaData().getDatabaseProductName())) {
+            return false;
+        }
+        setLazyExecution(con, true);
+        return true;
+    }
+
+    private static void setLazyExecution(Connection con, boolean lazy) throws SQLException {
+        try (Statement statement = con.createStatement()) {
+            statement.execute("SET LAZY_QUERY_EXECUTION " + lazy);
+        }
+    }
+}
@@ -1,21 +1,43 @@
 package com.studentmanagement.repository;
 
 import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
     
-    Optional<Student> findByEmail(String email);
+    // Results of the lookups and filters below are cached until a write touches the students table. Lookups
+    // return one row but have one key per student; filters have a few keys but return many rows. String queries,
+    // as translating a derived query's criteria on every call would cost more than a cache hit saves
+    String LOOKUP_CACHE_REGION = "student-lookups";
+    String QUERY_CACHE_REGION = "student-queries";
     
-    List<Student> findByStatus(String status);
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION)})
+    @Query("SELECT s FROM Student s WHERE s.email = :email")
+    Optional<Student> findByEmail(@Param("email") String email);
     
-    List<Student> findByCourse(String course);
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+    @Query("SELECT s FROM Student s WHERE s.status = :status")
+    List<Student> findByStatus(@Param("status") StudentStatus status);
+    
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+    @Query("SELECT s FROM Student s WHERE s.course = :course")
+    List<Student> findByCourse(@Param("course") String course);
     
     @Query("SELECT s FROM Student s WHERE " +
            "LOWER(s.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
@@ -24,9 +46,35 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
            "LOWER(s.course) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<Student> searchStudents(@Param("searchTerm") String searchTerm);
     
-    @Query("SELECT COUNT(s) FROM Student s WHERE s.status = 'Active'")
+    // Keyset pages: ordered by primary key so each page is an index range scan
+    List<Student> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+    
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+    List<Student> findByStatusAndIdGreaterThanOrderByIdAsc(StudentStatus status, Long afterId, Limit limit);
+    
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+    List<Student> findByCourseAndIdGreaterThanOrderByIdAsc(String course, Long afterId, Limit limit);
+    
+    @Query("SELECT s FROM Student s WHERE s.id > :afterId AND (" +
+           "LOWER(s.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(s.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(s.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(s.course) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) ORDER BY s.id")
+    List<Student> searchStudentsAfter(@Param("searchTerm") String searchTerm, @Param("afterId") Long afterId, Limit limit);
+    
+    // String query so Hibernate reuses the cached plan; findAllById re-translates a criteria query per call
+    @Query("SELECT s FROM Student s WHERE s.id IN :ids")
+    List<Student> findAllByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT s.email FROM Student s WHERE s.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
+    @Query("SELECT COUNT(s) FROM Student s WHERE s.status = com.studentmanagement.model.StudentStatus.ACTIVE")
     Long countActiveStudents();
     
-    @Query("SELECT COUNT(s) FROM Student s WHERE YEAR(s.enrollmentDate) = YEAR(CURRENT_DATE) AND MONTH(s.enrollmentDate) = MONTH(CURRENT_DATE)")
-    Long countNewAdmissionsThisMonth();
+    // Half-open range rather than YEAR()/MONTH() so the enrollment_date index applies
+    @Query("SELECT COUNT(s) FROM Student s WHERE s.enrollmentDate >= :from AND s.enrollmentDate < :to")
+    Long countEnrolledBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
\ No newline at end of file
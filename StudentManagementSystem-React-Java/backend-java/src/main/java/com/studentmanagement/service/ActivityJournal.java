@@ -0,0 +1,196 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.config.EntityCacheInvalidator;
+import com.studentmanagement.model.ActivityEvent;
+import com.studentmanagement.repository.ActivityEventRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Append-only activity log: every event is inserted into activity_events and published to a
+// bounded lock-free ring, so the feed reads the latest events without touching the entity tables.
+// Sequences come from activity_events_seq, so nodes sharing the database never reuse one; each ring holds
+// only its own node's events. Reads check the table's newest sequence first and go to the table once other nodes
+// have recorded past this node's head, or around their events below it
+@Component
+public class ActivityJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityJournal.class);
+
+    private static final String NEXT_SEQUENCE_SQL = "SELECT NEXT VALUE FOR activity_events_seq";
+    private static final String NEWEST_SEQUENCE_SQL = "SELECT MAX(event_sequence) FROM activity_events";
+    private static final String INSERT_SQL =
+            "INSERT INTO activity_events (event_sequence, type, message, created_date) VALUES (?, ?, ?, ?)";
+
+    @Autowired
+    private ActivityEventRepository activityEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private EntityCacheInvalidator cacheInvalidator;
+
+    @Value("${activity.journal.capacity:1024}")
+    private int requestedCapacity;
+
+    // Highest sequence this node has allocated or loaded
+    private final AtomicLong head = new AtomicLong();
+    // Allocated here and not yet in the ring
+    private final ConcurrentSkipListSet<Long> pending = new ConcurrentSkipListSet<>();
+    private AtomicReferenceArray<ActivityEvent> ring;
+    private int mask;
+
+    @PostConstruct
+    public void init() {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        ring = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+
+        // Warm the ring with the newest history. Sequences missing from it were allocated but never written
+        List<ActivityEvent> recent = activityEventRepository.findAllByOrderBySequenceDesc(Limit.of(capacity));
+        for (ActivityEvent event : recent) {
+            ring.set(slot(event.getSequence()), event);
+        }
+        long newest = recent.isEmpty() ? 0L : recent.get(0).getSequence();
+        for (long seq = Math.max(1L, newest - capacity + 1); seq <= newest; seq++) {
+            if (!holds(ring.get(slot(seq)), seq)) {
+                ring.set(slot(seq), lost(seq));
+            }
+        }
+        head.set(newest);
+    }
+
+    // Never throws: the activity has already happened (usually committed), so a journal failure is logged and
+    // the event dropped rather than failing the caller's write
+    public ActivityEvent record(String type, String message) {
+        long seq;
+        try {
+            seq = jdbcTemplate.queryForObject(NEXT_SEQUENCE_SQL, Long.class);
+        } catch (DataAccessException e) {
+            log.warn("Activity '{}' not recorded: {}", message, e.getMessage());
+            return null;
+        }
+        ActivityEvent event = new ActivityEvent(seq, type, message, LocalDateTime.now());
+        pending.add(seq);
+        head.accumulateAndGet(seq, Math::max);
+        try {
+            jdbcTemplate.update(INSERT_SQL, event.getSequence(), event.getType(), event.getMessage(),
+                    Timestamp.valueOf(event.getCreatedDate()));
+            ring.set(slot(seq), event);
+            resourceVersions.bump(ResourceVersions.Resource.ACTIVITY);
+            // Written with JDBC, so Hibernate publishes nothing; other nodes' feed ETags must move too
+            cacheInvalidator.entityTypeChanged(ActivityEvent.class);
+            return event;
+        } catch (DataAccessException e) {
+            log.warn("Activity '{}' not recorded: {}", message, e.getMessage());
+            // Published all the same, so readers step over the sequence instead of waiting for it
+            ring.set(slot(seq), lost(seq));
+            return null;
+        } finally {
+            pending.remove(seq);
+        }
+    }
+
+    // Newest first
+    public List<ActivityEvent> latest(int limit) {
+        long head = this.head.get();
+        if (newestRecorded(head) > head) {
+            // Other nodes have recorded past this node's head
+            return activityEventRepository.findAllByOrderBySequenceDesc(Limit.of(limit));
+        }
+        long floor = Math.max(0L, head - ring.length());
+        List<ActivityEvent> events = new ArrayList<>(limit);
+        long seq = head;
+        for (; seq > floor && events.size() < limit; seq--) {
+            ActivityEvent event = ring.get(slot(seq));
+            if (holds(event, seq)) {
+                if (event.getType() != null) {
+                    events.add(event);
+                }
+            } else if (!pending.contains(seq)) {
+                // Recorded by another node: the rest comes from the table
+                break;
+            }
+            // Otherwise still being written here: skipped
+        }
+        if (events.size() < limit && seq > 0) {
+            events.addAll(activityEventRepository.findBySequenceLessThanOrderBySequenceDesc(
+                    seq + 1, Limit.of(limit - events.size())));
+        }
+        return events;
+    }
+
+    // The first `limit` events after `since`, returned newest first; stops short of any event this node is
+    // still writing so a poller never skips past it
+    public List<ActivityEvent> since(long since, int limit) {
+        long head = this.head.get();
+        long newest = newestRecorded(head);
+        if (since >= newest) {
+            return List.of();
+        }
+        List<ActivityEvent> events;
+        if (newest > head || since < head - ring.length()) {
+            events = new ArrayList<>(activityEventRepository.findBySequenceGreaterThanOrderBySequenceAsc(since, Limit.of(limit)));
+        } else {
+            events = new ArrayList<>(limit);
+            for (long seq = since + 1; seq <= head && events.size() < limit; seq++) {
+                ActivityEvent event = ring.get(slot(seq));
+                if (holds(event, seq)) {
+                    if (event.getType() != null) {
+                        events.add(event);
+                    }
+                    continue;
+                }
+                if (!pending.contains(seq)) {
+                    // Recorded by another node: the rest comes from the table
+                    events.addAll(activityEventRepository.findBySequenceGreaterThanOrderBySequenceAsc(
+                            seq - 1, Limit.of(limit - events.size())));
+                }
+                break;
+            }
+        }
+        Long firstPending = pending.ceiling(since + 1);
+        if (firstPending != null) {
+            events.removeIf(event -> event.getSequence() >= firstPending);
+        }
+        Collections.reverse(events);
+        return events;
+    }
+
+    // Newest sequence written by any node, or this node's head if that is newer (its insert not yet visible)
+    private long newestRecorded(long head) {
+        Long newest = jdbcTemplate.queryForObject(NEWEST_SEQUENCE_SQL, Long.class);
+        return newest != null ? Math.max(newest, head) : head;
+    }
+
+    private int slot(long seq) {
+        return (int) (seq & mask);
+    }
+
+    private static boolean holds(ActivityEvent event, long seq) {
+        return event != null && event.getSequence() == seq;
+    }
+
+    // Fills the slot of a sequence that has no event, so readers skip it; the feed never returns it
+    private static ActivityEvent lost(long seq) {
+        return new ActivityEvent(seq, null, null, null);
+    }
+}
@@ -0,0 +1,330 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.BulkImportResultDto;
+import com.studentmanagement.dto.FeeImportDto;
+import com.studentmanagement.dto.StudentImportDto;
+import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.FeeType;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentStatus;
+import com.studentmanagement.repository.StudentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class BulkImportService {
+
+    private static final int MAX_BATCH_SIZE = 5000;
+    private static final int EMAIL_CHECK_CHUNK = 1000;
+    private static final List<String> CSV_REQUIRED_COLUMNS = List.of(
+        "firstname", "lastname", "email", "phone", "dateofbirth", "gender", "address", "course"
+    );
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private StudentSearchIndex searchIndex;
+
+    @Autowired
+    private DashboardStatsCounters statsCounters;
+
+    @Autowired
+    private ActivityJournal activityJournal;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Value("${import.batch-size:500}")
+    private int defaultBatchSize;
+
+    public BulkImportResultDto importStudents(List<StudentImportDto> students, Integer batchSize) {
+        List<ImportRow> rows = new ArrayList<>(students.size());
+        for (int i = 0; i < students.size(); i++) {
+            rows.add(new ImportRow(i + 1, students.get(i)));
+        }
+        return importRows(rows, batchSize);
+    }
+
+    // One student per email; extra rows for the same email add fees via feeType/feeAmount/feeDueDate
+    public BulkImportResultDto importCsv(String csv, Integer batchSize) {
+        List<String> lines = csv.lines().collect(Collectors.toList());
+        if (lines.isEmpty()) {
+            throw new RuntimeException("CSV input is empty");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = parseCsvLine(lines.get(0));
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : CSV_REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new RuntimeException("Missing CSV column: " + column);
+            }
+        }
+
+        Map<String, ImportRow> byEmail = new LinkedHashMap<>();
+        List<ImportRow> rows = new ArrayList<>();
+        for (int line = 1; line < lines.size(); line++) {
+            if (lines.get(line).isBlank()) {
+                continue;
+            }
+            List<String> fields = parseCsvLine(lines.get(line));
+            String email = column(fields, columns, "email");
+            ImportRow row = email != null ? byEmail.get(email) : null;
+            if (row == null) {
+                StudentImportDto dto = new StudentImportDto();
+                dto.setFirstName(column(fields, columns, "firstname"));
+                dto.setLastName(column(fields, columns, "lastname"));
+                dto.setEmail(email);
+                dto.setPhone(column(fields, columns, "phone"));
+                dto.setDateOfBirth(column(fields, columns, "dateofbirth"));
+                dto.setGender(column(fields, columns, "gender"));
+                dto.setAddress(column(fields, columns, "address"));
+                dto.setCourse(column(fields, columns, "course"));
+                dto.setStatus(column(fields, columns, "status"));
+                row = new ImportRow(line + 1, dto);
+                rows.add(row);
+                if (email != null) {
+                    byEmail.put(email, row);
+                }
+            }
+
+            String feeType = column(fields, columns, "feetype");
+            if (feeType != null) {
+                try {
+                    String amount = column(fields, columns, "feeamount");
+                    row.dto.getFees().add(new FeeImportDto(feeType,
+                            amount != null ? new BigDecimal(amount) : null,
+                            parseDueDate(column(fields, columns, "feeduedate"))));
+                } catch (RuntimeException e) {
+                    row.parseError = "Line " + (line + 1) + ": invalid fee amount or due date";
+                }
+            }
+        }
+        return importRows(rows, batchSize);
+    }
+
+    private BulkImportResultDto importRows(List<ImportRow> rows, Integer requestedBatchSize) {
+        int batchSize = requestedBatchSize != null && requestedBatchSize > 0
+                ? Math.min(requestedBatchSize, MAX_BATCH_SIZE) : defaultBatchSize;
+        BulkImportResultDto result = new BulkImportResultDto(rows.size());
+
+        // Bean validation and duplicates inside the payload
+        List<ImportRow> candidates = new ArrayList<>(rows.size());
+        Set<String> seenEmails = new HashSet<>();
+        for (ImportRow row : rows) {
+            String error = row.parseError != null ? row.parseError : validate(row.dto);
+            if (error == null && !seenEmails.add(row.dto.getEmail())) {
+                error = "Duplicate email in import: " + row.dto.getEmail();
+            }
+            if (error != null) {
+                result.addError(row.row, row.dto.getEmail(), error);
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        // One set-based uniqueness check per chunk instead of a findByEmail per student
+        Set<String> existing = new HashSet<>();
+        for (int i = 0; i < candidates.size(); i += EMAIL_CHECK_CHUNK) {
+            List<String> emails = new ArrayList<>();
+            for (ImportRow row : candidates.subList(i, Math.min(i + EMAIL_CHECK_CHUNK, candidates.size()))) {
+                emails.add(row.dto.getEmail());
+            }
+            existing.addAll(studentRepository.findExistingEmails(emails));
+        }
+        List<ImportRow> valid = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            if (existing.contains(row.dto.getEmail())) {
+                result.addError(row.row, row.dto.getEmail(), "Student with email " + row.dto.getEmail() + " already exists");
+            } else {
+                valid.add(row);
+            }
+        }
+
+        for (int i = 0; i < valid.size(); i += batchSize) {
+            List<ImportRow> batch = valid.subList(i, Math.min(i + batchSize, valid.size()));
+            try {
+                imported(insertBatch(batch, batchSize), batch, result);
+            } catch (RuntimeException batchFailure) {
+                // Isolate the offending rows (e.g. an email inserted concurrently) without losing the rest
+                for (ImportRow row : batch) {
+                    try {
+                        imported(insertBatch(List.of(row), 1), List.of(row), result);
+                    } catch (RuntimeException rowFailure) {
+                        Throwable cause = NestedExceptionUtils.getMostSpecificCause(rowFailure);
+                        result.addError(row.row, row.dto.getEmail(), cause.getMessage());
+                    }
+                }
+            }
+        }
+
+        if (result.getImportedStudents() > 0) {
+            activityJournal.record("admission", result.getImportedStudents() + " students admitted via bulk import");
+        }
+        result.getErrors().sort((a, b) -> Integer.compare(a.getRow(), b.getRow()));
+        return result;
+    }
+
+    private List<Student> insertBatch(List<ImportRow> batch, int batchSize) {
+        return transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            List<Student> students = new ArrayList<>(batch.size());
+            for (ImportRow row : batch) {
+                Student student = toStudent(row.dto);
+                entityManager.persist(student);
+                for (FeeImportDto fee : row.dto.getFees()) {
+                    entityManager.persist(toFee(student, fee));
+                }
+                students.add(student);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return students;
+        });
+    }
+
+    private void imported(List<Student> students, List<ImportRow> batch, BulkImportResultDto result) {
+        resourceVersions.bump(ResourceVersions.Resource.STUDENTS, ResourceVersions.Resource.FEES);
+        for (Student student : students) {
+            searchIndex.index(student);
+            statsCounters.studentAdded(student);
+        }
+        int fees = 0;
+        for (ImportRow row : batch) {
+            fees += row.dto.getFees().size();
+        }
+        result.setImportedStudents(result.getImportedStudents() + students.size());
+        result.setImportedFees(result.getImportedFees() + fees);
+    }
+
+    private String validate(StudentImportDto dto) {
+        Student student;
+        List<String> messages = new ArrayList<>();
+        try {
+            student = toStudent(dto);
+        } catch (IllegalArgumentException e) {
+            // Unknown status label
+            return e.getMessage();
+        }
+        for (ConstraintViolation<Student> violation : validator.validate(student)) {
+            messages.add(violation.getMessage());
+        }
+        for (FeeImportDto feeDto : dto.getFees()) {
+            try {
+                for (ConstraintViolation<Fee> violation : validator.validate(toFee(student, feeDto))) {
+                    messages.add(violation.getMessage());
+                }
+            } catch (IllegalArgumentException e) {
+                messages.add(e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return null;
+        }
+        messages.sort(null);
+        return String.join("; ", messages);
+    }
+
+    private Student toStudent(StudentImportDto dto) {
+        Student student = new Student(dto.getFirstName(), dto.getLastName(), dto.getEmail(), dto.getPhone(),
+                dto.getDateOfBirth(), dto.getGender(), dto.getAddress(), dto.getCourse());
+        if (dto.getStatus() != null && !dto.getStatus().isBlank()) {
+            student.setStatus(StudentStatus.fromLabel(dto.getStatus()));
+        }
+        return student;
+    }
+
+    private Fee toFee(Student student, FeeImportDto dto) {
+        // A missing type is left to the @NotNull check
+        FeeType feeType = dto.getFeeType() != null && !dto.getFeeType().isBlank() ? FeeType.fromLabel(dto.getFeeType()) : null;
+        return new Fee(student, feeType, dto.getAmount(), dto.getDueDate());
+    }
+
+    private static LocalDateTime parseDueDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        return value.contains("T") ? LocalDateTime.parse(value) : LocalDate.parse(value).atStartOfDay();
+    }
+
+    private static String column(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // RFC 4180 fields on a single line: quoted fields may contain commas and doubled quotes
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static final class ImportRow {
+        private final int row;
+        private final StudentImportDto dto;
+        private String parseError;
+
+        private ImportRow(int row, StudentImportDto dto) {
+            this.row = row;
+            this.dto = dto;
+        }
+    }
+}
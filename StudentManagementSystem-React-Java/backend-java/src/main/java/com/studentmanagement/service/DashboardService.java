@@ -2,6 +2,7 @@ package com.studentmanagement.service;
 
 import com.studentmanagement.dto.DashboardStatsDto;
 import com.studentmanagement.dto.RecentActivityDto;
+import com.studentmanagement.model.ActivityEvent;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
@@ -13,6 +14,15 @@ import java.util.List;
 @Service
 public class DashboardService {
 
+    private static final int DEFAULT_RECENT_ACTIVITIES = 5;
+    private static final int MAX_RECENT_ACTIVITIES = 100;
+
+    // Query names double as the DashboardStatsDto field names reported in staleFields
+    private static final String TOTAL_STUDENTS = "totalStudents";
+    private static final String NEW_ADMISSIONS = "newAdmissions";
+    private static final String FEES_COLLECTED = "feesCollected";
+    private static final String PENDING_INQUIRIES = "pendingInquiries";
+
     @Autowired
     private StudentService studentService;
 
@@ -22,64 +32,67 @@ public class DashboardService {
     @Autowired
     private InquiryService inquiryService;
 
+    @Autowired
+    private DashboardStatsCounters statsCounters;
+
+    @Autowired
+    private ActivityJournal activityJournal;
+
+    @Autowired
+    private ParallelQueryExecutor queryExecutor;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
     public DashboardStatsDto getDashboardStats() {
-        Long totalStudents = studentService.getTotalActiveStudents();
-        Long newAdmissions = studentService.getNewAdmissionsThisMonth();
-        BigDecimal feesCollected = feeService.getTotalFeesCollected();
-        Long pendingInquiries = inquiryService.getPendingInquiriesCount();
-
-        return new DashboardStatsDto(
-            totalStudents != null ? totalStudents : 0L,
-            newAdmissions != null ? newAdmissions : 0L,
-            feesCollected != null ? feesCollected : BigDecimal.ZERO,
-            pendingInquiries != null ? pendingInquiries : 0L
+        if (statsCounters.isReady()) {
+            return statsCounters.snapshot();
+        }
+
+        // The four aggregates are independent; run them side by side instead of one after another
+        ParallelQueryExecutor.Batch batch = queryExecutor.batch()
+                .submit(TOTAL_STUDENTS, studentService::getTotalActiveStudents)
+                .submit(NEW_ADMISSIONS, studentService::getNewAdmissionsThisMonth)
+                .submit(FEES_COLLECTED, feeService::getTotalFeesCollected)
+                .submit(PENDING_INQUIRIES, inquiryService::getPendingInquiriesCount);
+        DashboardStatsDto stats = new DashboardStatsDto(
+            valueOrZero(batch, TOTAL_STUDENTS, 0L),
+            valueOrZero(batch, NEW_ADMISSIONS, 0L),
+            valueOrZero(batch, FEES_COLLECTED, BigDecimal.ZERO),
+            valueOrZero(batch, PENDING_INQUIRIES, 0L)
         );
+        if (!batch.isComplete()) {
+            stats.setStaleFields(batch.getStale());
+            stats.setFailedFields(batch.getFailed());
+            // The ETag sent with this partial response must not be revalidated as current
+            resourceVersions.bump(ResourceVersions.Resource.DASHBOARD);
+        }
+        return stats;
     }
 
-    public List<RecentActivityDto> getRecentActivities() {
-        List<RecentActivityDto> activities = new ArrayList<>();
-
-        // Add sample recent activities (in a real app, you'd get these from actual data)
-        LocalDateTime now = LocalDateTime.now();
-        
-        activities.add(new RecentActivityDto(
-            "admission", 
-            "New student John Doe admitted to Computer Science", 
-            getRelativeTime(now.minusHours(2)), 
-            now.minusHours(2)
-        ));
-        
-        activities.add(new RecentActivityDto(
-            "payment", 
-            "Fee payment of $1,500.00 received from Jane Smith", 
-            getRelativeTime(now.minusHours(4)), 
-            now.minusHours(4)
-        ));
-        
-        activities.add(new RecentActivityDto(
-            "inquiry", 
-            "New inquiry from Alex Johnson about scholarship programs", 
-            getRelativeTime(now.minusHours(6)), 
-            now.minusHours(6)
-        ));
-        
-        activities.add(new RecentActivityDto(
-            "admission", 
-            "New student Sarah Wilson admitted to Business Administration", 
-            getRelativeTime(now.minusDays(1)), 
-            now.minusDays(1)
-        ));
-        
-        activities.add(new RecentActivityDto(
-            "payment", 
-            "Fee payment of $2,000.00 received from Mike Davis", 
-            getRelativeTime(now.minusDays(2)), 
-            now.minusDays(2)
-        ));
+    public List<RecentActivityDto> getRecentActivities(Integer limit, Long since) {
+        int size = limit != null && limit > 0 ? Math.min(limit, MAX_RECENT_ACTIVITIES) : DEFAULT_RECENT_ACTIVITIES;
+        List<ActivityEvent> events = since != null ? activityJournal.since(since, size) : activityJournal.latest(size);
 
+        List<RecentActivityDto> activities = new ArrayList<>(events.size());
+        for (ActivityEvent event : events) {
+            activities.add(new RecentActivityDto(
+                event.getSequence(),
+                event.getType(),
+                event.getMessage(),
+                getRelativeTime(event.getCreatedDate()),
+                event.getCreatedDate()
+            ));
+        }
         return activities;
     }
 
+    // An aggregate over no rows is zero; a stale or failed one stays null
+    private static <T> T valueOrZero(ParallelQueryExecutor.Batch batch, String name, T zero) {
+        T value = batch.get(name);
+        return value != null || batch.isStale(name) || batch.isFailed(name) ? value : zero;
+    }
+
     private String getRelativeTime(LocalDateTime dateTime) {
         LocalDateTime now = LocalDateTime.now();
         long hours = java.time.Duration.between(dateTime, now).toHours();
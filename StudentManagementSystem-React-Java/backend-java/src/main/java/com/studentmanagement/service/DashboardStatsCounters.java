@@ -0,0 +1,169 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.DashboardStatsDto;
+import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.InquiryStatus;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentStatus;
+import com.studentmanagement.repository.FeeRepository;
+import com.studentmanagement.repository.InquiryRepository;
+import com.studentmanagement.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// Running dashboard totals, maintained by the service write paths and periodically reconciled
+// against the aggregate queries so any drift is bounded by the reconcile interval
+@Component
+public class DashboardStatsCounters {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private FeeRepository feeRepository;
+
+    @Autowired
+    private InquiryRepository inquiryRepository;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private ParallelQueryExecutor queryExecutor;
+
+    private final AtomicLong activeStudents = new AtomicLong();
+    private final AtomicLong newAdmissions = new AtomicLong();
+    private final AtomicReference<BigDecimal> feesCollected = new AtomicReference<>(BigDecimal.ZERO);
+    private final AtomicLong pendingInquiries = new AtomicLong();
+    private volatile YearMonth admissionsMonth = YearMonth.now();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!ready) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.stats.reconcile-interval-ms:300000}",
+               initialDelayString = "${dashboard.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        reconcile(() -> queryExecutor.batch());
+    }
+
+    // Startup warm-up: the first pass over a cold database can take longer than a request may wait
+    public void reconcile(long timeoutMillis) {
+        reconcile(() -> queryExecutor.batch(timeoutMillis));
+    }
+
+    private synchronized void reconcile(Supplier<ParallelQueryExecutor.Batch> newBatch) {
+        YearMonth month = YearMonth.now();
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        ParallelQueryExecutor.Batch batch = newBatch.get()
+                .submit("activeStudents", studentRepository::countActiveStudents)
+                .submit("newAdmissions", () -> studentRepository.countEnrolledBetween(from, to))
+                .submit("feesCollected", feeRepository::getTotalFeesCollected)
+                .submit("pendingInquiries", inquiryRepository::countPendingInquiries);
+        long active = orZero(batch.get("activeStudents"));
+        long admissions = orZero(batch.get("newAdmissions"));
+        BigDecimal collected = batch.get("feesCollected");
+        collected = collected != null ? collected : BigDecimal.ZERO;
+        long pending = orZero(batch.get("pendingInquiries"));
+        if (!batch.isComplete()) {
+            // Keep the running totals (or the aggregate fallback, before the first load) until the next round
+            return;
+        }
+
+        // Drift or a month rollover changes the stats without any write; invalidate cached dashboards
+        boolean changed = activeStudents.getAndSet(active) != active
+                | newAdmissions.getAndSet(admissions) != admissions
+                | feesCollected.getAndSet(collected).compareTo(collected) != 0
+                | pendingInquiries.getAndSet(pending) != pending;
+        admissionsMonth = month;
+        ready = true;
+        if (changed) {
+            resourceVersions.bump(ResourceVersions.Resource.DASHBOARD);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public DashboardStatsDto snapshot() {
+        if (!admissionsMonth.equals(YearMonth.now())) {
+            reconcile();
+        }
+        return new DashboardStatsDto(activeStudents.get(), newAdmissions.get(),
+                feesCollected.get(), pendingInquiries.get());
+    }
+
+    public void studentAdded(Student student) {
+        if (isActive(student.getStatus())) {
+            activeStudents.incrementAndGet();
+        }
+        if (isThisMonth(student.getEnrollmentDate())) {
+            newAdmissions.incrementAndGet();
+        }
+    }
+
+    public void studentRemoved(Student student) {
+        if (isActive(student.getStatus())) {
+            activeStudents.decrementAndGet();
+        }
+        if (isThisMonth(student.getEnrollmentDate())) {
+            newAdmissions.decrementAndGet();
+        }
+    }
+
+    public void studentStatusChanged(StudentStatus from, StudentStatus to) {
+        activeStudents.addAndGet((isActive(to) ? 1 : 0) - (isActive(from) ? 1 : 0));
+    }
+
+    // Mirrors FeeRepository.getTotalFeesCollected: only fully paid fees count
+    public static BigDecimal collectedAmount(Fee fee) {
+        if (fee.getStatus() == FeeStatus.PAID && fee.getPaidAmount() != null) {
+            return fee.getPaidAmount();
+        }
+        return BigDecimal.ZERO;
+    }
+
+    public void feesCollectedChanged(BigDecimal before, BigDecimal after) {
+        BigDecimal delta = after.subtract(before);
+        if (delta.signum() != 0) {
+            feesCollected.accumulateAndGet(delta, BigDecimal::add);
+        }
+    }
+
+    // Pass null for an inquiry that did not exist before or no longer exists
+    public void inquiryStatusChanged(InquiryStatus from, InquiryStatus to) {
+        pendingInquiries.addAndGet((isPending(to) ? 1 : 0) - (isPending(from) ? 1 : 0));
+    }
+
+    private boolean isThisMonth(LocalDateTime dateTime) {
+        return dateTime != null && YearMonth.from(dateTime).equals(admissionsMonth);
+    }
+
+    private static boolean isActive(StudentStatus status) {
+        return status == StudentStatus.ACTIVE;
+    }
+
+    private static boolean isPending(InquiryStatus status) {
+        return status == InquiryStatus.PENDING;
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
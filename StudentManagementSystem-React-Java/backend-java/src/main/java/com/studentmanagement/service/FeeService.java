@@ -1,27 +1,92 @@
 package com.studentmanagement.service;
 
+import com.studentmanagement.dto.KeysetPage;
+import com.studentmanagement.dto.StudentFeeSummaryDto;
 import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.FeeType;
+import com.studentmanagement.model.Payment;
+import com.studentmanagement.model.PaymentIdempotencyKey;
 import com.studentmanagement.model.Student;
 import com.studentmanagement.repository.FeeRepository;
+import com.studentmanagement.repository.PaymentIdempotencyKeyRepository;
+import com.studentmanagement.repository.PaymentRepository;
+import com.studentmanagement.repository.RowStreamRepository;
 import com.studentmanagement.repository.StudentRepository;
 import com.studentmanagement.dto.PaymentRequestDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 @Service
 public class FeeService {
 
+    private static final int LOCK_STRIPES = 256;
+    private static final int MAX_PAYMENT_ATTEMPTS = 5;
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+    private static final int MAX_SUMMARY_IDS = 1000;
+    private static final int SNAPSHOT_CHUNK = 500;
+
     @Autowired
     private FeeRepository feeRepository;
 
+    @Autowired
+    private PaymentIdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Autowired
     private StudentRepository studentRepository;
 
+    @Autowired
+    private RowStreamRepository rowStreamRepository;
+
+    @Autowired
+    private DashboardStatsCounters statsCounters;
+
+    @Autowired
+    private ActivityJournal activityJournal;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Value("${payment.idempotency.retention-hours:24}")
+    private long idempotencyRetentionHours;
+
+    // Writes to one fee queue on its stripe instead of colliding on the @Version check;
+    // the version still guards against writers outside this JVM
+    private final ReentrantLock[] feeLocks = newLocks(LOCK_STRIPES);
+
+    @Transactional(readOnly = true)
     public List<Fee> getAllFees() {
         return feeRepository.findAll();
     }
@@ -30,46 +95,190 @@ public class FeeService {
         return feeRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
     public List<Fee> getFeesByStudentId(Long studentId) {
         return feeRepository.findByStudentId(studentId);
     }
 
-    public List<Fee> getFeesByStatus(String status) {
+    @Transactional(readOnly = true)
+    public List<Fee> getFeesByStatus(FeeStatus status) {
         return feeRepository.findByStatus(status);
     }
 
-    public List<Fee> getFeesByType(String feeType) {
+    @Transactional(readOnly = true)
+    public List<Fee> getFeesByType(FeeType feeType) {
         return feeRepository.findByFeeType(feeType);
     }
 
+    @Transactional(readOnly = true)
+    public KeysetPage<Fee> getFeesPage(Long after, Integer limit) {
+        int size = KeysetPage.size(limit);
+        return KeysetPage.of(feeRepository.findByIdGreaterThanOrderByIdAsc(afterId(after), Limit.of(size + 1)),
+                size, Fee::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<Fee> getFeesByStudentIdPage(Long studentId, Long after, Integer limit) {
+        int size = KeysetPage.size(limit);
+        return KeysetPage.of(feeRepository.findByStudentIdAndIdGreaterThanOrderByIdAsc(studentId, afterId(after), Limit.of(size + 1)),
+                size, Fee::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<Fee> getFeesByStatusPage(FeeStatus status, Long after, Integer limit) {
+        int size = KeysetPage.size(limit);
+        return KeysetPage.of(feeRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status, afterId(after), Limit.of(size + 1)),
+                size, Fee::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<Fee> getFeesByTypePage(FeeType feeType, Long after, Integer limit) {
+        int size = KeysetPage.size(limit);
+        return KeysetPage.of(feeRepository.findByFeeTypeAndIdGreaterThanOrderByIdAsc(feeType, afterId(after), Limit.of(size + 1)),
+                size, Fee::getId);
+    }
+
+    public void streamFees(Long studentId, FeeStatus status, FeeType feeType, Consumer<? super Fee> consumer) {
+        rowStreamRepository.streamFees(studentId, status, feeType, consumer);
+    }
+
+    public void exportFees(Long studentId, FeeStatus status, FeeType feeType, ResultSetExtractor<?> extractor) {
+        rowStreamRepository.exportFees(studentId, status, feeType, extractor);
+    }
+
     public Fee createFee(Fee fee) {
         // Validate student exists
         Student student = studentRepository.findById(fee.getStudent().getId())
                 .orElseThrow(() -> new RuntimeException("Student not found with id: " + fee.getStudent().getId()));
         
         fee.setStudent(student);
-        return feeRepository.save(fee);
+        Fee saved = transactionTemplate.execute(status -> {
+            Fee created = feeRepository.save(fee);
+            if (created.getPaidAmount() != null && created.getPaidAmount().signum() > 0) {
+                // Created already (partly) paid: the ledger opens with that amount so the snapshot matches it
+                entityManager.persist(Payment.openingBalance(created));
+            }
+            return created;
+        });
+        resourceVersions.bump(ResourceVersions.Resource.FEES);
+        statsCounters.feesCollectedChanged(BigDecimal.ZERO, DashboardStatsCounters.collectedAmount(saved));
+        return saved;
     }
 
     public Fee updateFee(Long id, Fee feeDetails) {
-        Fee fee = feeRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Fee not found with id: " + id));
+        ReentrantLock lock = feeLock(id);
+        lock.lock();
+        try {
+            Fee fee = feeRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Fee not found with id: " + id));
 
-        fee.setFeeType(feeDetails.getFeeType());
-        fee.setAmount(feeDetails.getAmount());
-        fee.setDueDate(feeDetails.getDueDate());
-        fee.setStatus(feeDetails.getStatus());
+            BigDecimal collectedBefore = DashboardStatsCounters.collectedAmount(fee);
+            fee.setFeeType(feeDetails.getFeeType());
+            fee.setAmount(feeDetails.getAmount());
+            fee.setDueDate(feeDetails.getDueDate());
+            fee.setStatus(feeDetails.getStatus());
 
-        return feeRepository.save(fee);
+            Fee saved = feeRepository.save(fee);
+            resourceVersions.bump(ResourceVersions.Resource.FEES);
+            statsCounters.feesCollectedChanged(collectedBefore, DashboardStatsCounters.collectedAmount(saved));
+            return saved;
+        } finally {
+            lock.unlock();
+        }
     }
 
     public void deleteFee(Long id) {
-        Fee fee = feeRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Fee not found with id: " + id));
-        feeRepository.delete(fee);
+        ReentrantLock lock = feeLock(id);
+        lock.lock();
+        try {
+            // The fee's payments go with it, so the ledger never holds rows for a fee that is gone
+            Fee fee = transactionTemplate.execute(status -> {
+                Fee found = feeRepository.findById(id)
+                        .orElseThrow(() -> new RuntimeException("Fee not found with id: " + id));
+                paymentRepository.deleteByFeeId(id);
+                feeRepository.delete(found);
+                return found;
+            });
+            resourceVersions.bump(ResourceVersions.Resource.FEES);
+            statsCounters.feesCollectedChanged(DashboardStatsCounters.collectedAmount(fee), BigDecimal.ZERO);
+        } finally {
+            lock.unlock();
+        }
     }
 
     public Fee processPayment(Long feeId, PaymentRequestDto paymentRequest) {
+        return processPayment(feeId, paymentRequest, null);
+    }
+
+    // A request repeated with the same idempotency key returns the fee without charging it again
+    public Fee processPayment(Long feeId, PaymentRequestDto paymentRequest, String idempotencyKey) {
+        BigDecimal amount = paymentRequest.getAmount();
+        if (amount == null || amount.signum() <= 0) {
+            throw new RuntimeException("Payment amount must be greater than 0");
+        }
+        if (idempotencyKey != null) {
+            if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+                throw new RuntimeException("Idempotency key must be 1 to " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+            }
+            // Fast path for retries: one primary-key lookup, no lock and no write
+            Optional<PaymentIdempotencyKey> used = idempotencyKeyRepository.findById(idempotencyKey);
+            if (used.isPresent()) {
+                return replay(used.get(), feeId, amount);
+            }
+        }
+
+        PaymentOutcome outcome;
+        ReentrantLock lock = feeLock(feeId);
+        lock.lock();
+        try {
+            outcome = applyPaymentWithRetry(feeId, paymentRequest, idempotencyKey);
+        } finally {
+            lock.unlock();
+        }
+
+        if (!outcome.replayed) {
+            resourceVersions.bump(ResourceVersions.Resource.FEES);
+            statsCounters.feesCollectedChanged(outcome.collectedBefore, DashboardStatsCounters.collectedAmount(outcome.fee));
+            recordPayment(outcome.fee, amount);
+        }
+        return outcome.fee;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.idempotency.purge-interval-ms:3600000}",
+               initialDelayString = "${payment.idempotency.purge-interval-ms:3600000}")
+    public void purgeIdempotencyKeys() {
+        idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(idempotencyRetentionHours));
+    }
+
+    private PaymentOutcome applyPaymentWithRetry(Long feeId, PaymentRequestDto paymentRequest, String idempotencyKey) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> applyPayment(feeId, paymentRequest, idempotencyKey));
+            } catch (OptimisticLockingFailureException e) {
+                // Another instance updated the fee between our read and write; re-read and try again
+                if (attempt >= MAX_PAYMENT_ATTEMPTS) {
+                    throw new RuntimeException("Fee " + feeId + " is being updated concurrently, please retry");
+                }
+            } catch (DataIntegrityViolationException e) {
+                // The same key was committed concurrently for another fee or by another instance
+                if (idempotencyKey == null) {
+                    throw e;
+                }
+                PaymentIdempotencyKey used = idempotencyKeyRepository.findById(idempotencyKey).orElseThrow(() -> e);
+                return new PaymentOutcome(replay(used, feeId, paymentRequest.getAmount()), null, true);
+            }
+        }
+    }
+
+    private PaymentOutcome applyPayment(Long feeId, PaymentRequestDto paymentRequest, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            // Re-checked under the fee lock: an identical request may have committed while we waited
+            Optional<PaymentIdempotencyKey> used = idempotencyKeyRepository.findById(idempotencyKey);
+            if (used.isPresent()) {
+                return new PaymentOutcome(replay(used.get(), feeId, paymentRequest.getAmount()), null, true);
+            }
+        }
+
         Fee fee = feeRepository.findById(feeId)
                 .orElseThrow(() -> new RuntimeException("Fee not found with id: " + feeId));
 
@@ -79,37 +288,233 @@ public class FeeService {
             throw new RuntimeException("Payment amount cannot exceed remaining amount: " + remainingAmount);
         }
 
-        // Process payment
+        // Process payment: the fee row is the running snapshot, the ledger row the record of this payment
+        BigDecimal collectedBefore = DashboardStatsCounters.collectedAmount(fee);
         fee.setPaidAmount(fee.getPaidAmount().add(paymentRequest.getAmount()));
         fee.setPaymentMethod(paymentRequest.getPaymentMethod());
         fee.setTransactionId(UUID.randomUUID().toString());
         fee.setPaidDate(LocalDateTime.now());
+        fee.setStatus(snapshotStatus(fee));
 
-        // Update status if fully paid
+        Fee saved = feeRepository.saveAndFlush(fee);
+        entityManager.persist(new Payment(saved, paymentRequest.getAmount(), saved.getPaymentMethod(),
+                saved.getTransactionId(), saved.getPaidDate()));
+        if (idempotencyKey != null) {
+            entityManager.persist(new PaymentIdempotencyKey(idempotencyKey, feeId, paymentRequest.getAmount(),
+                    saved.getTransactionId()));
+            // Flushed through the repository so a duplicate key surfaces as DataIntegrityViolationException
+            idempotencyKeyRepository.flush();
+        }
+        return new PaymentOutcome(saved, collectedBefore, false);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Payment> getPaymentsByFeeId(Long feeId) {
+        return paymentRepository.findByFeeIdOrderByIdAsc(feeId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Payment> getPaymentsByStudentId(Long studentId) {
+        return paymentRepository.findByStudentIdOrderByIdAsc(studentId);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<Payment> getPaymentsByFeeIdPage(Long feeId, Long after, Integer limit) {
+        int size = KeysetPage.size(limit);
+        return KeysetPage.of(paymentRepository.findByFeeIdAndIdGreaterThanOrderByIdAsc(feeId, afterId(after), Limit.of(size + 1)),
+                size, Payment::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<Payment> getPaymentsByStudentIdPage(Long studentId, Long after, Integer limit) {
+        int size = KeysetPage.size(limit);
+        return KeysetPage.of(paymentRepository.findByStudentIdAndIdGreaterThanOrderByIdAsc(studentId, afterId(after), Limit.of(size + 1)),
+                size, Payment::getId);
+    }
+
+    @Scheduled(cron = "${payment.snapshot.rebuild-cron:-}")
+    public void scheduledSnapshotRebuild() {
+        rebuildPaymentSnapshots();
+    }
+
+    // Compares every fee's paid amount with its ledger total, a chunk at a time, and rebuilds the snapshots that
+    // drifted from the ledger. Returns how many fees were repaired
+    public int rebuildPaymentSnapshots() {
+        int repaired = 0;
+        long after = 0;
+        List<Fee> chunk;
+        do {
+            chunk = feeRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(SNAPSHOT_CHUNK));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            Map<Long, BigDecimal> ledgerTotals = paymentRepository
+                    .sumByFeeIds(chunk.stream().map(Fee::getId).collect(Collectors.toList())).stream()
+                    .collect(Collectors.toMap(PaymentRepository.FeeLedgerTotal::getFeeId,
+                            PaymentRepository.FeeLedgerTotal::getPaidAmount));
+            for (Fee fee : chunk) {
+                BigDecimal ledgerTotal = ledgerTotals.getOrDefault(fee.getId(), BigDecimal.ZERO);
+                if ((fee.getPaidAmount() == null || fee.getPaidAmount().compareTo(ledgerTotal) != 0)
+                        && rebuildSnapshot(fee.getId())) {
+                    repaired++;
+                }
+            }
+            after = chunk.get(chunk.size() - 1).getId();
+        } while (chunk.size() == SNAPSHOT_CHUNK);
+
+        if (repaired > 0) {
+            resourceVersions.bump(ResourceVersions.Resource.FEES);
+        }
+        return repaired;
+    }
+
+    // Re-reads fee and ledger under the fee's lock, so a payment landing after the chunk was read is not undone
+    private boolean rebuildSnapshot(Long feeId) {
+        ReentrantLock lock = feeLock(feeId);
+        lock.lock();
+        try {
+            PaymentOutcome outcome = transactionTemplate.execute(status -> {
+                Fee fee = feeRepository.findById(feeId).orElse(null);
+                if (fee == null) {
+                    return null;
+                }
+                List<Payment> ledger = paymentRepository.findByFeeIdOrderByIdAsc(feeId);
+                BigDecimal paid = ledger.stream().map(Payment::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+                if (fee.getPaidAmount() != null && fee.getPaidAmount().compareTo(paid) == 0) {
+                    return null;
+                }
+
+                BigDecimal collectedBefore = DashboardStatsCounters.collectedAmount(fee);
+                Payment last = ledger.isEmpty() ? null : ledger.get(ledger.size() - 1);
+                fee.setPaidAmount(paid);
+                fee.setPaymentMethod(last != null ? last.getPaymentMethod() : null);
+                fee.setTransactionId(last != null ? last.getTransactionId() : null);
+                fee.setPaidDate(last != null ? last.getPaidDate() : null);
+                fee.setStatus(snapshotStatus(fee));
+                return new PaymentOutcome(feeRepository.saveAndFlush(fee), collectedBefore, false);
+            });
+            if (outcome == null) {
+                return false;
+            }
+            statsCounters.feesCollectedChanged(outcome.collectedBefore, DashboardStatsCounters.collectedAmount(outcome.fee));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Paid, Partially Paid and Pending follow the paid amount; other statuses (Overdue, set by OverdueFeeService)
+    // are kept until the fee is paid off
+    private static FeeStatus snapshotStatus(Fee fee) {
         if (fee.isFullyPaid()) {
-            fee.setStatus("Paid");
-        } else {
-            fee.setStatus("Partially Paid");
+            return FeeStatus.PAID;
+        }
+        if (fee.getStatus() == FeeStatus.OVERDUE) {
+            return fee.getStatus();
+        }
+        if (fee.getPaidAmount().signum() > 0) {
+            return FeeStatus.PARTIALLY_PAID;
+        }
+        if (fee.getStatus() == FeeStatus.PAID || fee.getStatus() == FeeStatus.PARTIALLY_PAID) {
+            return FeeStatus.PENDING;
         }
+        return fee.getStatus();
+    }
 
-        return feeRepository.save(fee);
+    private Fee replay(PaymentIdempotencyKey used, Long feeId, BigDecimal amount) {
+        if (!used.getFeeId().equals(feeId) || used.getAmount().compareTo(amount) != 0) {
+            throw new RuntimeException("Idempotency key " + used.getKey() + " was already used for a different payment");
+        }
+        return feeRepository.findById(feeId)
+                .orElseThrow(() -> new RuntimeException("Fee not found with id: " + feeId));
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal getTotalFeesCollected() {
         BigDecimal total = feeRepository.getTotalFeesCollected();
         return total != null ? total : BigDecimal.ZERO;
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal getTotalPendingFees() {
         BigDecimal total = feeRepository.getTotalPendingFees();
         return total != null ? total : BigDecimal.ZERO;
     }
 
+    @Transactional(readOnly = true)
     public List<Fee> getPendingFeesByStudentId(Long studentId) {
         return feeRepository.findPendingFeesByStudentId(studentId);
     }
 
+    public Optional<StudentFeeSummaryDto> getFeeSummary(Long studentId) {
+        List<StudentFeeSummaryDto> summaries = getFeeSummaries(List.of(studentId));
+        return summaries.isEmpty() ? Optional.empty() : Optional.of(summaries.get(0));
+    }
+
+    // Summaries in request order; ids of students that do not exist are left out
+    @Transactional(readOnly = true)
+    public List<StudentFeeSummaryDto> getFeeSummaries(List<Long> studentIds) {
+        if (studentIds.size() > MAX_SUMMARY_IDS) {
+            throw new RuntimeException("At most " + MAX_SUMMARY_IDS + " student ids per request");
+        }
+        Map<Long, StudentFeeSummaryDto> byStudent = new HashMap<>();
+        for (FeeRepository.FeeStatusTotals row : feeRepository.summarizeByStudentIds(new LinkedHashSet<>(studentIds))) {
+            StudentFeeSummaryDto summary = byStudent.computeIfAbsent(row.getStudentId(), StudentFeeSummaryDto::new);
+            if (row.getFeeCount() > 0) {
+                summary.addGroup(row.getStatus() != null ? row.getStatus().getLabel() : null, row.getFeeCount(), row.getTotalAmount(), row.getPaidAmount());
+            }
+        }
+
+        List<StudentFeeSummaryDto> summaries = new ArrayList<>(byStudent.size());
+        for (Long id : new LinkedHashSet<>(studentIds)) {
+            StudentFeeSummaryDto summary = byStudent.get(id);
+            if (summary != null) {
+                summaries.add(summary);
+            }
+        }
+        return summaries;
+    }
+
+    @Transactional(readOnly = true)
     public Long getTotalPendingFeesCount() {
         return feeRepository.countPendingFees();
     }
+
+    private void recordPayment(Fee fee, BigDecimal amount) {
+        // Resolve the name by id; the lazy student proxy may be detached outside a web request
+        String payer = studentRepository.findById(fee.getStudent().getId())
+                .map(Student::getFullName)
+                .orElse("student #" + fee.getStudent().getId());
+        activityJournal.record("payment",
+                "Fee payment of " + String.format(Locale.US, "$%,.2f", amount) + " received from " + payer);
+    }
+
+    private Long afterId(Long after) {
+        return after != null ? after : 0L;
+    }
+
+    private ReentrantLock feeLock(Long feeId) {
+        int hash = Long.hashCode(feeId) * 0x9E3779B9;
+        return feeLocks[(hash >>> 16) & (LOCK_STRIPES - 1)];
+    }
+
+    private static ReentrantLock[] newLocks(int count) {
+        ReentrantLock[] locks = new ReentrantLock[count];
+        for (int i = 0; i < count; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private static final class PaymentOutcome {
+        private final Fee fee;
+        private final BigDecimal collectedBefore;
+        private final boolean replayed;
+
+        private PaymentOutcome(Fee fee, BigDecimal collectedBefore, boolean replayed) {
+            this.fee = fee;
+            this.collectedBefore = collectedBefore;
+            this.replayed = replayed;
+        }
+    }
 }
\ No newline at end of file
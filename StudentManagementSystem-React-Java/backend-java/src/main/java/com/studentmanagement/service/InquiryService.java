@@ -1,19 +1,62 @@
 package com.studentmanagement.service;
 
+import com.studentmanagement.config.EntityCacheInvalidator;
+import com.studentmanagement.dto.KeysetPage;
 import com.studentmanagement.model.Inquiry;
+import com.studentmanagement.model.InquiryStatus;
 import com.studentmanagement.repository.InquiryRepository;
+import com.studentmanagement.repository.RowStreamRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 @Service
 public class InquiryService {
 
+    private static final int DEFAULT_CLAIM_SIZE = 10;
+    private static final int MAX_CLAIM_SIZE = 100;
+    private static final int MAX_WORKER_LENGTH = 100;
+    private static final int MAX_CLAIM_ROUNDS = 8;
+    private static final int CLAIM_SPREAD = 8;
+
     @Autowired
     private InquiryRepository inquiryRepository;
 
+    @Autowired
+    private RowStreamRepository rowStreamRepository;
+
+    @Autowired
+    private DashboardStatsCounters statsCounters;
+
+    @Autowired
+    private ActivityJournal activityJournal;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityCacheInvalidator cacheInvalidator;
+
+    @Value("${inquiry.lease.duration-seconds:600}")
+    private long leaseSeconds;
+
+    @Transactional(readOnly = true)
     public List<Inquiry> getAllInquiries() {
         return inquiryRepository.findAllOrderByCreatedDateDesc();
     }
@@ -22,50 +65,236 @@ public class InquiryService {
         return inquiryRepository.findById(id);
     }
 
-    public List<Inquiry> getInquiriesByStatus(String status) {
+    @Transactional(readOnly = true)
+    public List<Inquiry> getInquiriesByStatus(InquiryStatus status) {
         return inquiryRepository.findByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public List<Inquiry> getInquiriesByEmail(String email) {
         return inquiryRepository.findByEmail(email);
     }
 
+    @Transactional(readOnly = true)
+    public KeysetPage<Inquiry> getInquiriesPage(Long after, Integer limit) {
+        int size = KeysetPage.size(limit);
+        return KeysetPage.of(inquiryRepository.findByIdLessThanOrderByIdDesc(beforeId(after), Limit.of(size + 1)),
+                size, Inquiry::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<Inquiry> getInquiriesByStatusPage(InquiryStatus status, Long after, Integer limit) {
+        int size = KeysetPage.size(limit);
+        return KeysetPage.of(inquiryRepository.findByStatusAndIdLessThanOrderByIdDesc(status, beforeId(after), Limit.of(size + 1)),
+                size, Inquiry::getId);
+    }
+
+    public void streamInquiries(InquiryStatus status, Consumer<? super Inquiry> consumer) {
+        rowStreamRepository.streamInquiries(status, consumer);
+    }
+
+    public void exportInquiries(InquiryStatus status, ResultSetExtractor<?> extractor) {
+        rowStreamRepository.exportInquiries(status, extractor);
+    }
+
     public Inquiry createInquiry(Inquiry inquiry) {
-        return inquiryRepository.save(inquiry);
+        Inquiry saved = inquiryRepository.save(inquiry);
+        resourceVersions.bump(ResourceVersions.Resource.INQUIRIES);
+        statsCounters.inquiryStatusChanged(null, saved.getStatus());
+        activityJournal.record("inquiry",
+                "New inquiry from " + saved.getName() + " about " + saved.getSubject());
+        return saved;
     }
 
+    // An edit from the UI: like a UI response, it overrides any lease
     public Inquiry updateInquiry(Long id, Inquiry inquiryDetails) {
-        Inquiry inquiry = inquiryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Inquiry not found with id: " + id));
+        return update(id, inquiryDetails, null);
+    }
+
+    // A queue worker's edit: refused while another worker holds a live lease
+    public Inquiry updateInquiry(Long id, Inquiry inquiryDetails, String worker) {
+        return update(id, inquiryDetails, requireWorker(worker));
+    }
 
-        inquiry.setName(inquiryDetails.getName());
-        inquiry.setEmail(inquiryDetails.getEmail());
-        inquiry.setPhone(inquiryDetails.getPhone());
-        inquiry.setSubject(inquiryDetails.getSubject());
-        inquiry.setMessage(inquiryDetails.getMessage());
-        inquiry.setStatus(inquiryDetails.getStatus());
+    // worker null: the lease override. An inquiry moved out of Pending leaves the queue, and its lease ends
+    private Inquiry update(Long id, Inquiry inquiryDetails, String worker) {
+        Changed updated = transactionTemplate.execute(status -> {
+            Inquiry inquiry = inquiryRepository.findByIdForUpdate(id)
+                    .orElseThrow(() -> new RuntimeException("Inquiry not found with id: " + id));
+            if (worker != null) {
+                checkNotLeasedToOther(inquiry, worker, LocalDateTime.now());
+            }
 
-        return inquiryRepository.save(inquiry);
+            InquiryStatus previousStatus = inquiry.getStatus();
+            inquiry.setName(inquiryDetails.getName());
+            inquiry.setEmail(inquiryDetails.getEmail());
+            inquiry.setPhone(inquiryDetails.getPhone());
+            inquiry.setSubject(inquiryDetails.getSubject());
+            inquiry.setMessage(inquiryDetails.getMessage());
+            inquiry.setStatus(inquiryDetails.getStatus());
+            if (inquiry.getStatus() != InquiryStatus.PENDING) {
+                inquiry.setLeaseOwner(null);
+                inquiry.setLeaseExpiresAt(null);
+            }
+            return new Changed(inquiryRepository.save(inquiry), previousStatus);
+        });
+
+        resourceVersions.bump(ResourceVersions.Resource.INQUIRIES);
+        statsCounters.inquiryStatusChanged(updated.previousStatus, updated.inquiry.getStatus());
+        return updated.inquiry;
     }
 
+    // Staff answering from the UI, outside the worker queue: overrides any lease on the inquiry and ends it
     public Inquiry respondToInquiry(Long id, String response) {
-        Inquiry inquiry = inquiryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Inquiry not found with id: " + id));
+        return respond(id, response, null);
+    }
+
+    // A queue worker's answer: refused while another worker holds a live lease, so two workers never answer
+    // the same inquiry
+    public Inquiry respondToInquiry(Long id, String response, String worker) {
+        return respond(id, response, requireWorker(worker));
+    }
+
+    // worker null: the lease override
+    private Inquiry respond(Long id, String response, String worker) {
+        Changed responded = transactionTemplate.execute(status -> {
+            Inquiry inquiry = inquiryRepository.findByIdForUpdate(id)
+                    .orElseThrow(() -> new RuntimeException("Inquiry not found with id: " + id));
+            if (worker != null) {
+                checkNotLeasedToOther(inquiry, worker, LocalDateTime.now());
+            }
 
-        inquiry.setResponse(response);
-        inquiry.setResponseDate(LocalDateTime.now());
-        inquiry.setStatus("Responded");
+            InquiryStatus previousStatus = inquiry.getStatus();
+            inquiry.setResponse(response);
+            inquiry.setResponseDate(LocalDateTime.now());
+            inquiry.setStatus(InquiryStatus.RESPONDED);
+            inquiry.setLeaseOwner(null);
+            inquiry.setLeaseExpiresAt(null);
+            return new Changed(inquiryRepository.save(inquiry), previousStatus);
+        });
 
-        return inquiryRepository.save(inquiry);
+        resourceVersions.bump(ResourceVersions.Resource.INQUIRIES);
+        statsCounters.inquiryStatusChanged(responded.previousStatus, responded.inquiry.getStatus());
+        return responded.inquiry;
+    }
+
+    // Leases the oldest pending inquiries nobody else holds. Each round is one read and one conditional UPDATE
+    // that commits at once, so concurrent workers never wait on each other's row locks for long; rows lost to
+    // another worker are made up from a fresh, wider read. Abandoned leases simply expire and are handed out again
+    public List<Inquiry> claimPending(String worker, Integer limit) {
+        String owner = requireWorker(worker);
+        int size = limit != null && limit > 0 ? Math.min(limit, MAX_CLAIM_SIZE) : DEFAULT_CLAIM_SIZE;
+        // Also identifies this claim's rows, so it must survive the round trip through a TIMESTAMP column unchanged
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(leaseSeconds).truncatedTo(ChronoUnit.MILLIS);
+
+        List<Inquiry> claimed = new ArrayList<>(size);
+        for (int round = 0; round < MAX_CLAIM_ROUNDS && claimed.size() < size; round++) {
+            LocalDateTime now = LocalDateTime.now();
+            int wanted = size - claimed.size();
+            List<Long> candidates;
+            if (round == 0) {
+                candidates = inquiryRepository.findClaimableIds(now, Limit.of(wanted));
+            } else {
+                // Lost rows to other workers reading the same head of the queue: spread out over a wider window
+                candidates = new ArrayList<>(inquiryRepository.findClaimableIds(now, Limit.of(wanted * CLAIM_SPREAD)));
+                Collections.shuffle(candidates, ThreadLocalRandom.current());
+                candidates = candidates.subList(0, Math.min(wanted, candidates.size()));
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            if (inquiryRepository.claim(candidates, owner, expiresAt, now) > 0) {
+                claimed.addAll(inquiryRepository.findClaimed(candidates, owner, expiresAt));
+            }
+        }
+
+        if (!claimed.isEmpty()) {
+            resourceVersions.bump(ResourceVersions.Resource.INQUIRIES);
+            // Claims are bulk updates, which publish nothing by themselves
+            cacheInvalidator.entityTypeChanged(Inquiry.class);
+        }
+        claimed.sort(Comparator.comparing(Inquiry::getCreatedDate).thenComparing(Inquiry::getId));
+        return claimed;
+    }
+
+    // Heartbeat for long replies; also re-takes the worker's own lease if it lapsed and nobody claimed it since
+    public Inquiry renewLease(Long id, String worker) {
+        String owner = requireWorker(worker);
+        Inquiry renewed = transactionTemplate.execute(status -> {
+            Inquiry inquiry = lockLeased(id, owner);
+            inquiry.setLeaseExpiresAt(LocalDateTime.now().plusSeconds(leaseSeconds));
+            return inquiry;
+        });
+        resourceVersions.bump(ResourceVersions.Resource.INQUIRIES);
+        return renewed;
+    }
+
+    // Hands the inquiry back to the queue without answering it
+    public Inquiry releaseLease(Long id, String worker) {
+        String owner = requireWorker(worker);
+        Inquiry released = transactionTemplate.execute(status -> {
+            Inquiry inquiry = lockLeased(id, owner);
+            inquiry.setLeaseOwner(null);
+            inquiry.setLeaseExpiresAt(null);
+            return inquiry;
+        });
+        resourceVersions.bump(ResourceVersions.Resource.INQUIRIES);
+        return released;
     }
 
     public void deleteInquiry(Long id) {
         Inquiry inquiry = inquiryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Inquiry not found with id: " + id));
         inquiryRepository.delete(inquiry);
+        resourceVersions.bump(ResourceVersions.Resource.INQUIRIES);
+        statsCounters.inquiryStatusChanged(inquiry.getStatus(), null);
     }
 
+    @Transactional(readOnly = true)
     public Long getPendingInquiriesCount() {
         return inquiryRepository.countPendingInquiries();
     }
-}
\ No newline at end of file
+
+    private Inquiry lockLeased(Long id, String owner) {
+        Inquiry inquiry = inquiryRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new RuntimeException("Inquiry not found with id: " + id));
+        if (!owner.equals(inquiry.getLeaseOwner())) {
+            throw new IllegalStateException("Inquiry " + id + " is not leased to " + owner);
+        }
+        checkNotLeasedToOther(inquiry, owner, LocalDateTime.now());
+        return inquiry;
+    }
+
+    private void checkNotLeasedToOther(Inquiry inquiry, String worker, LocalDateTime now) {
+        if (inquiry.isLeasedToOtherThan(worker, now)) {
+            throw new IllegalStateException("Inquiry " + inquiry.getId() + " is being handled by "
+                    + inquiry.getLeaseOwner() + " until " + inquiry.getLeaseExpiresAt());
+        }
+    }
+
+    private String requireWorker(String worker) {
+        String owner = worker != null ? worker.trim() : "";
+        if (owner.isEmpty()) {
+            throw new RuntimeException("A worker id is required");
+        }
+        if (owner.length() > MAX_WORKER_LENGTH) {
+            throw new RuntimeException("Worker id must not exceed " + MAX_WORKER_LENGTH + " characters");
+        }
+        return owner;
+    }
+
+    // Inquiries page newest first, so the cursor is an upper bound
+    private Long beforeId(Long after) {
+        return after != null ? after : Long.MAX_VALUE;
+    }
+
+    private static final class Changed {
+        private final Inquiry inquiry;
+        private final InquiryStatus previousStatus;
+
+        private Changed(Inquiry inquiry, InquiryStatus previousStatus) {
+            this.inquiry = inquiry;
+            this.previousStatus = previousStatus;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.config.EntityCacheInvalidator;
+import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.JobCheckpoint;
+import com.studentmanagement.repository.FeeRepository;
+import com.studentmanagement.repository.JobCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Marks unpaid fees past their due date as Overdue. Walks the fees table in primary-key chunks, one short
+// transaction per chunk that updates the chunk in a single statement and advances the checkpoint with it, so a
+// run interrupted by a restart resumes after the last committed chunk with the same cutoff. One node runs the job
+// at a time: it claims the checkpoint row for claim-seconds and extends the claim with each chunk, and a node
+// that finds a live claim elsewhere skips the run. A run whose node died is taken over once its claim lapses
+@Service
+public class OverdueFeeService {
+
+    private static final Logger log = LoggerFactory.getLogger(OverdueFeeService.class);
+
+    static final String JOB_NAME = "overdue-fees";
+    private static final List<FeeStatus> UNPAID_STATUSES = List.of(FeeStatus.PENDING, FeeStatus.PARTIALLY_PAID);
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Autowired
+    private FeeRepository feeRepository;
+
+    @Autowired
+    private JobCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private EntityCacheInvalidator cacheInvalidator;
+
+    @Value("${fees.overdue.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${fees.overdue.claim-seconds:300}")
+    private long claimSeconds;
+
+    @Scheduled(cron = "${fees.overdue.cron:0 15 0 * * *}")
+    public void scheduledRun() {
+        try {
+            markOverdueFees();
+        } catch (IllegalStateException e) {
+            log.info("Skipping the overdue-fee run: {}", e.getMessage());
+        }
+    }
+
+    // Returns how many fees this call marked (a resumed run counts only the chunks it processed itself). Throws
+    // IllegalStateException while another node holds the job. synchronized: this node's callers share its claim
+    public synchronized int markOverdueFees() {
+        claim();
+        JobCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElseThrow();
+        if (!checkpoint.isRunning()) {
+            LocalDateTime started = LocalDateTime.now();
+            checkpointRepository.startRun(JOB_NAME, nodeId, started);
+            checkpoint.setLastId(0L);
+            checkpoint.setRunStarted(started);
+        }
+
+        LocalDateTime cutoff = checkpoint.getRunStarted();
+        long lastId = checkpoint.getLastId();
+        int marked = 0;
+        List<Long> ids;
+        do {
+            ids = feeRepository.findIdsAfter(lastId, Limit.of(chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            long afterId = lastId;
+            long upToId = ids.get(ids.size() - 1);
+            int updated = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                if (checkpointRepository.advance(JOB_NAME, nodeId, upToId, now.plusSeconds(claimSeconds), now) == 0) {
+                    throw new IllegalStateException("the overdue-fee job was taken over by another node");
+                }
+                int rows = 0;
+                for (FeeStatus unpaid : UNPAID_STATUSES) {
+                    rows += feeRepository.markOverdue(unpaid, afterId, upToId, cutoff);
+                }
+                return rows;
+            });
+            lastId = upToId;
+            if (updated > 0) {
+                marked += updated;
+                resourceVersions.bump(ResourceVersions.Resource.FEES);
+                // Hibernate evicts this node's cached fees after a bulk update; other nodes have to be told
+                cacheInvalidator.entityTypeChanged(Fee.class);
+            }
+        } while (ids.size() == chunkSize);
+
+        checkpointRepository.finishRun(JOB_NAME, nodeId, LocalDateTime.now());
+        return marked;
+    }
+
+    private void claim() {
+        if (!checkpointRepository.existsById(JOB_NAME)) {
+            try {
+                checkpointRepository.save(new JobCheckpoint(JOB_NAME));
+            } catch (DataIntegrityViolationException e) {
+                // Another node created it first
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (checkpointRepository.claim(JOB_NAME, nodeId, now.plusSeconds(claimSeconds), now) == 0) {
+            throw new IllegalStateException("the overdue-fee job is running on another node");
+        }
+    }
+}
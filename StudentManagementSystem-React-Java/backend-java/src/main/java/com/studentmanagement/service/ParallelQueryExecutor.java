@@ -0,0 +1,151 @@
+package com.studentmanagement.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Runs independent read-only aggregates concurrently, each in its own read-only transaction (and so on its
+// own connection), on a small bounded pool. A batch shares one deadline; whatever misses it is reported stale,
+// and whatever throws is logged and reported failed. No per-statement query timeout: H2 makes every statement noticeably slower once one is set
+@Component
+public class ParallelQueryExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelQueryExecutor.class);
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${dashboard.query.pool-size:4}")
+    private int poolSize;
+
+    @Value("${dashboard.query.timeout-ms:2000}")
+    private long timeoutMillis;
+
+    private ThreadPoolExecutor executor;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threads = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(poolSize * 16), task -> {
+                    Thread thread = new Thread(task, "aggregate-query-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    // All queries submitted to one batch share a deadline that starts now
+    public Batch batch() {
+        return batch(timeoutMillis);
+    }
+
+    public Batch batch(long timeoutMillis) {
+        return new Batch(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public final class Batch {
+        private final long deadline;
+        private final Map<String, Future<?>> queries = new LinkedHashMap<>();
+        private final List<String> stale = new ArrayList<>();
+        private final List<String> failed = new ArrayList<>();
+
+        private Batch(long deadline) {
+            this.deadline = deadline;
+        }
+
+        public Batch submit(String name, Supplier<?> query) {
+            try {
+                queries.put(name, executor.submit(() -> readOnlyTransaction.execute(status -> query.get())));
+            } catch (RejectedExecutionException e) {
+                // Pool and queue saturated: report it stale rather than queueing unbounded work
+                queries.put(name, null);
+            }
+            return this;
+        }
+
+        // The query's result, or null with the name recorded as stale if it missed the deadline (or never got a
+        // pool thread), or as failed if it threw
+        @SuppressWarnings("unchecked")
+        public <T> T get(String name) {
+            Future<?> future = queries.get(name);
+            if (future == null) {
+                markStale(name);
+                return null;
+            }
+            try {
+                long remaining = deadline - System.nanoTime();
+                return (T) future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // Not interrupted: an interrupt mid-query closes H2's file channel. An abandoned query finishes
+                // on its pool thread, so stragglers never hold more than pool-size connections
+                future.cancel(false);
+                markStale(name);
+                return null;
+            } catch (ExecutionException e) {
+                if (!failed.contains(name)) {
+                    failed.add(name);
+                    log.warn("Aggregate query {} failed", name, e.getCause());
+                }
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(false);
+                markStale(name);
+                return null;
+            }
+        }
+
+        public List<String> getStale() {
+            return stale;
+        }
+
+        public boolean isStale(String name) {
+            return stale.contains(name);
+        }
+
+        public List<String> getFailed() {
+            return failed;
+        }
+
+        public boolean isFailed(String name) {
+            return failed.contains(name);
+        }
+
+        public boolean isComplete() {
+            return stale.isEmpty() && failed.isEmpty();
+        }
+
+        private void markStale(String name) {
+            if (!stale.contains(name)) {
+                stale.add(name);
+            }
+        }
+    }
+}
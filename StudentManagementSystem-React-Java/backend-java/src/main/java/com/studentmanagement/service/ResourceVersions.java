@@ -0,0 +1,34 @@
+package com.studentmanagement.service;
+
+import org.springframework.stereotype.Component;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Per-collection change counters behind the ETags of the read endpoints. Write paths bump them after
+// their change is committed; the boot epoch makes tags from a previous run (or another node) never match
+@Component
+public class ResourceVersions {
+
+    public enum Resource { STUDENTS, FEES, INQUIRIES, ACTIVITY, DASHBOARD }
+
+    private final AtomicLongArray versions = new AtomicLongArray(Resource.values().length);
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    public void bump(Resource... resources) {
+        for (Resource resource : resources) {
+            versions.incrementAndGet(resource.ordinal());
+        }
+    }
+
+    public long version(Resource resource) {
+        return versions.get(resource.ordinal());
+    }
+
+    // Weak: it identifies the data version, not the exact bytes of one representation
+    public String etag(Resource... resources) {
+        StringBuilder tag = new StringBuilder("W/\"").append(epoch);
+        for (Resource resource : resources) {
+            tag.append('-').append(resource.name().charAt(0)).append(versions.get(resource.ordinal()));
+        }
+        return tag.append('"').toString();
+    }
+}
@@ -0,0 +1,428 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.config.CacheInvalidationBus;
+import com.studentmanagement.config.EntityCacheInvalidator;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.repository.RowStreamRepository;
+import com.studentmanagement.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory trigram index over firstName, lastName, email and course. This node's writes update it directly; other
+// nodes' student writes arrive over the cache invalidation bus and are re-read from the database
+@Component
+public class StudentSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentSearchIndex.class);
+
+    private static final int GRAM = 3;
+    private static final int[] FIELD_WEIGHTS = {3, 3, 2, 1};
+    // Postings are rebuilt once this share of ordinals belongs to removed or replaced documents
+    private static final double COMPACT_RATIO = 0.3;
+    private static final int COMPACT_MIN_DOCS = 1024;
+    // Failed loads and refreshes are retried, waiting twice as long each time up to the maximum
+    private static final long RETRY_MIN_MILLIS = 1_000;
+    private static final long RETRY_MAX_MILLIS = 60_000;
+
+    @Autowired
+    private RowStreamRepository rowStreamRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CacheInvalidationBus bus;
+
+    @Autowired
+    private EntityCacheInvalidator cacheInvalidator;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private int deadCount;
+
+    // Ids written while the initial load runs; the write path wins over the (older) loaded row
+    private final Set<Long> touchedDuringLoad = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading;
+    private volatile boolean ready;
+
+    private volatile Thread loader;
+    // Other nodes' changes, applied one at a time in arrival order, off the publishing thread
+    private final ExecutorService remoteChanges = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "student-search-index-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void subscribe() {
+        bus.subscribe(this::remoteChange);
+    }
+
+    @PreDestroy
+    public void stop() {
+        remoteChanges.shutdownNow();
+        Thread running = loader;
+        if (running != null) {
+            running.interrupt();
+        }
+    }
+
+    // Already loaded when StartupWarmup ran. Searches go to the database until a load succeeds
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (ready) {
+            return;
+        }
+        loader = new Thread(() -> retrying("load", this::load), "student-search-index");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // Also a full reload: students no longer in the table leave the index
+    public void load() {
+        loading = true;
+        try {
+            Set<Long> loaded = new HashSet<>();
+            rowStreamRepository.streamStudents(null, null, student -> {
+                lock.writeLock().lock();
+                try {
+                    loaded.add(student.getId());
+                    if (!touchedDuringLoad.contains(student.getId())) {
+                        put(student);
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+            lock.writeLock().lock();
+            try {
+                for (Long id : new ArrayList<>(ordinals.keySet())) {
+                    if (!loaded.contains(id) && !touchedDuringLoad.contains(id)) {
+                        kill(ordinals.remove(id));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+        } finally {
+            loading = false;
+            touchedDuringLoad.clear();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void remoteChange(CacheInvalidationBus.Invalidation invalidation) {
+        if (cacheInvalidator.isLocal(invalidation) || !invalidation.getEntityName().equals(Student.class.getName())) {
+            return;
+        }
+        List<Long> ids = invalidation.getIds().stream().map(id -> (Long) id).toList();
+        remoteChanges.execute(() -> retrying("refresh", () -> refresh(ids)));
+    }
+
+    // Committed rows of the given students; the ones not found were deleted. No ids: every student
+    private void refresh(List<Long> ids) {
+        if (ids.isEmpty()) {
+            load();
+            return;
+        }
+        Set<Long> gone = new HashSet<>(ids);
+        for (Student student : studentRepository.findAllByIdIn(ids)) {
+            gone.remove(student.getId());
+            index(student);
+        }
+        for (Long id : gone) {
+            remove(id);
+        }
+    }
+
+    private void retrying(String what, Runnable task) {
+        long delay = RETRY_MIN_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                task.run();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Search index {} failed (attempt {}), retrying in {} ms", what, attempt, delay, e);
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                // Context closing
+                Thread.currentThread().interrupt();
+                return;
+            }
+            delay = Math.min(delay * 2, RETRY_MAX_MILLIS);
+        }
+    }
+
+    public void index(Student student) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                touchedDuringLoad.add(student.getId());
+            }
+            put(student);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                touchedDuringLoad.add(id);
+            }
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal != null) {
+                kill(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Ranked student ids, or empty while the index is still cold
+    public Optional<List<Long>> search(String term, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        String needle = term.trim().toLowerCase(Locale.ROOT);
+        if (needle.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            PriorityQueue<Hit> top = new PriorityQueue<>(Hit.BEST_FIRST.reversed());
+            if (needle.length() < GRAM) {
+                for (Doc doc : docs) {
+                    if (doc != null) {
+                        offer(top, doc, needle, limit);
+                    }
+                }
+            } else {
+                int[] candidates = candidates(needle);
+                for (int ordinal : candidates) {
+                    Doc doc = docs.get(ordinal);
+                    if (doc != null) {
+                        offer(top, doc, needle, limit);
+                    }
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Hit.BEST_FIRST);
+            List<Long> ids = new ArrayList<>(hits.size());
+            for (Hit hit : hits) {
+                ids.add(hit.id);
+            }
+            return Optional.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Student student) {
+        Integer previous = ordinals.get(student.getId());
+        if (previous != null) {
+            kill(previous);
+        }
+
+        String[] fields = {
+            lower(student.getFirstName()), lower(student.getLastName()),
+            lower(student.getEmail()), lower(student.getCourse())
+        };
+        int ordinal = docs.size();
+        docs.add(new Doc(student.getId(), fields));
+        ordinals.put(student.getId(), ordinal);
+
+        // Ordinals only grow, so appending keeps every posting list sorted
+        for (String gram : grams(fields)) {
+            postings.computeIfAbsent(gram, g -> new IntList()).add(ordinal);
+        }
+    }
+
+    private void kill(int ordinal) {
+        docs.set(ordinal, null);
+        deadCount++;
+        if (docs.size() >= COMPACT_MIN_DOCS && deadCount > docs.size() * COMPACT_RATIO) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        List<Doc> live = new ArrayList<>(ordinals.size());
+        for (Doc doc : docs) {
+            if (doc != null) {
+                live.add(doc);
+            }
+        }
+        docs.clear();
+        ordinals.clear();
+        postings.clear();
+        deadCount = 0;
+        for (Doc doc : live) {
+            int ordinal = docs.size();
+            docs.add(doc);
+            ordinals.put(doc.id, ordinal);
+            for (String gram : grams(doc.fields)) {
+                postings.computeIfAbsent(gram, g -> new IntList()).add(ordinal);
+            }
+        }
+    }
+
+    private int[] candidates(String needle) {
+        Set<String> grams = new LinkedHashSet<>();
+        addGrams(needle, grams);
+
+        List<IntList> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            IntList list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        int[] result = Arrays.copyOf(lists.get(0).data, lists.get(0).size);
+        int count = result.length;
+        for (int i = 1; i < lists.size() && count > 0; i++) {
+            IntList other = lists.get(i);
+            int kept = 0;
+            int from = 0;
+            for (int j = 0; j < count; j++) {
+                int pos = Arrays.binarySearch(other.data, from, other.size, result[j]);
+                if (pos >= 0) {
+                    result[kept++] = result[j];
+                    from = pos + 1;
+                } else {
+                    from = -pos - 1;
+                }
+            }
+            count = kept;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private void offer(PriorityQueue<Hit> top, Doc doc, String needle, int limit) {
+        int score = score(doc, needle);
+        if (score == 0) {
+            return;
+        }
+        Hit hit = new Hit(doc.id, score);
+        if (top.size() < limit) {
+            top.add(hit);
+        } else if (Hit.BEST_FIRST.compare(hit, top.peek()) < 0) {
+            top.poll();
+            top.add(hit);
+        }
+    }
+
+    // Exact field matches outrank prefixes, which outrank substrings; names outrank email and course
+    private int score(Doc doc, String needle) {
+        int score = 0;
+        for (int i = 0; i < doc.fields.length; i++) {
+            String field = doc.fields[i];
+            if (field.equals(needle)) {
+                score += 4 * FIELD_WEIGHTS[i];
+            } else if (field.startsWith(needle)) {
+                score += 2 * FIELD_WEIGHTS[i];
+            } else if (field.contains(needle)) {
+                score += FIELD_WEIGHTS[i];
+            }
+        }
+        return score;
+    }
+
+    private static Set<String> grams(String[] fields) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String field : fields) {
+            addGrams(field, grams);
+        }
+        return grams;
+    }
+
+    private static void addGrams(String value, Set<String> grams) {
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+    }
+
+    private static String lower(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static final class Doc {
+        private final long id;
+        private final String[] fields;
+
+        private Doc(long id, String[] fields) {
+            this.id = id;
+            this.fields = fields;
+        }
+    }
+
+    private static final class Hit {
+        private static final Comparator<Hit> BEST_FIRST =
+                Comparator.comparingInt((Hit hit) -> hit.score).reversed().thenComparingLong(hit -> hit.id);
+
+        private final long id;
+        private final int score;
+
+        private Hit(long id, int score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+
+    private static final class IntList {
+        private int[] data = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+    }
+}
@@ -1,11 +1,25 @@
 package com.studentmanagement.service;
 
+import com.studentmanagement.dto.KeysetPage;
 import com.studentmanagement.model.Student;
+import com.studentmanagement.model.StudentStatus;
+import com.studentmanagement.repository.PaymentRepository;
+import com.studentmanagement.repository.RowStreamRepository;
 import com.studentmanagement.repository.StudentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 public class StudentService {
@@ -13,6 +27,28 @@ public class StudentService {
     @Autowired
     private StudentRepository studentRepository;
 
+    @Autowired
+    private RowStreamRepository rowStreamRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private StudentSearchIndex searchIndex;
+
+    @Autowired
+    private DashboardStatsCounters statsCounters;
+
+    @Autowired
+    private ActivityJournal activityJournal;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Transactional(readOnly = true)
     public List<Student> getAllStudents() {
         return studentRepository.findAll();
     }
@@ -30,7 +66,13 @@ public class StudentService {
         if (studentRepository.findByEmail(student.getEmail()).isPresent()) {
             throw new RuntimeException("Student with email " + student.getEmail() + " already exists");
         }
-        return studentRepository.save(student);
+        Student saved = studentRepository.save(student);
+        resourceVersions.bump(ResourceVersions.Resource.STUDENTS);
+        searchIndex.index(saved);
+        statsCounters.studentAdded(saved);
+        activityJournal.record("admission",
+                "New student " + saved.getFullName() + " admitted to " + saved.getCourse());
+        return saved;
     }
 
     public Student updateStudent(Long id, Student studentDetails) {
@@ -44,6 +86,7 @@ public class StudentService {
             }
         }
 
+        StudentStatus previousStatus = student.getStatus();
         student.setFirstName(studentDetails.getFirstName());
         student.setLastName(studentDetails.getLastName());
         student.setEmail(studentDetails.getEmail());
@@ -54,32 +97,129 @@ public class StudentService {
         student.setCourse(studentDetails.getCourse());
         student.setStatus(studentDetails.getStatus());
 
-        return studentRepository.save(student);
+        Student saved = studentRepository.save(student);
+        resourceVersions.bump(ResourceVersions.Resource.STUDENTS);
+        searchIndex.index(saved);
+        statsCounters.studentStatusChanged(previousStatus, saved.getStatus());
+        return saved;
     }
 
     public void deleteStudent(Long id) {
-        Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + id));
-        studentRepository.delete(student);
+        // Deleting a student cascades to its fees and their payments; the paid amounts leave the collected total
+        Deleted deleted = transactionTemplate.execute(status -> {
+            Student student = studentRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Student not found with id: " + id));
+            BigDecimal collected = student.getFees().stream()
+                    .map(DashboardStatsCounters::collectedAmount)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            paymentRepository.deleteByStudentId(id);
+            studentRepository.delete(student);
+            return new Deleted(student, collected);
+        });
+        resourceVersions.bump(ResourceVersions.Resource.STUDENTS, ResourceVersions.Resource.FEES);
+        searchIndex.remove(id);
+        statsCounters.studentRemoved(deleted.student);
+        statsCounters.feesCollectedChanged(deleted.collected, BigDecimal.ZERO);
     }
 
     public List<Student> searchStudents(String searchTerm) {
-        return studentRepository.searchStudents(searchTerm);
+        return searchStudents(searchTerm, null);
+    }
+
+    // The best matches, at most one page of them (the default page size without a limit): a one-letter term
+    // matches most students
+    @Transactional(readOnly = true)
+    public List<Student> searchStudents(String searchTerm, Integer limit) {
+        int size = KeysetPage.size(limit);
+        String term = searchTerm.trim();
+        Optional<List<Long>> rankedIds = searchIndex.search(term, size);
+        if (rankedIds.isEmpty()) {
+            // Index still loading after a cold start; as the index does, a blank term matches nothing
+            return term.isEmpty() ? List.of() : studentRepository.searchStudentsAfter(term, 0L, Limit.of(size));
+        }
+
+        List<Long> ids = rankedIds.get();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            rank.put(ids.get(i), i);
+        }
+        List<Student> students = studentRepository.findAllByIdIn(ids);
+        students.sort(Comparator.comparing(student -> rank.get(student.getId())));
+        return students;
     }
 
-    public List<Student> getStudentsByStatus(String status) {
+    @Transactional(readOnly = true)
+    public List<Student> getStudentsByStatus(StudentStatus status) {
         return studentRepository.findByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public List<Student> getStudentsByCourse(String course) {
         return studentRepository.findByCourse(course);
     }
 
+    @Transactional(readOnly = true)
+    public KeysetPage<Student> getStudentsPage(Long after, Integer limit) {
+        int size = KeysetPage.size(limit);
+        return KeysetPage.of(studentRepository.findByIdGreaterThanOrderByIdAsc(afterId(after), Limit.of(size + 1)),
+                size, Student::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<Student> searchStudentsPage(String searchTerm, Long after, Integer limit) {
+        int size = KeysetPage.size(limit);
+        return KeysetPage.of(studentRepository.searchStudentsAfter(searchTerm.trim(), afterId(after), Limit.of(size + 1)),
+                size, Student::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<Student> getStudentsByStatusPage(StudentStatus status, Long after, Integer limit) {
+        int size = KeysetPage.size(limit);
+        return KeysetPage.of(studentRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status, afterId(after), Limit.of(size + 1)),
+                size, Student::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<Student> getStudentsByCoursePage(String course, Long after, Integer limit) {
+        int size = KeysetPage.size(limit);
+        return KeysetPage.of(studentRepository.findByCourseAndIdGreaterThanOrderByIdAsc(course, afterId(after), Limit.of(size + 1)),
+                size, Student::getId);
+    }
+
+    public void streamStudents(StudentStatus status, String course, Consumer<? super Student> consumer) {
+        rowStreamRepository.streamStudents(status, course, consumer);
+    }
+
+    public void exportStudents(StudentStatus status, String course, ResultSetExtractor<?> extractor) {
+        rowStreamRepository.exportStudents(status, course, extractor);
+    }
+
+    @Transactional(readOnly = true)
     public Long getTotalActiveStudents() {
         return studentRepository.countActiveStudents();
     }
 
+    @Transactional(readOnly = true)
     public Long getNewAdmissionsThisMonth() {
-        return studentRepository.countNewAdmissionsThisMonth();
+        YearMonth month = YearMonth.now();
+        return studentRepository.countEnrolledBetween(month.atDay(1).atStartOfDay(),
+                month.plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    private Long afterId(Long after) {
+        return after != null ? after : 0L;
+    }
+
+    private static final class Deleted {
+        private final Student student;
+        private final BigDecimal collected;
+
+        private Deleted(Student student, BigDecimal collected) {
+            this.student = student;
+            this.collected = collected;
+        }
     }
-}
\ No newline at end of file
+}
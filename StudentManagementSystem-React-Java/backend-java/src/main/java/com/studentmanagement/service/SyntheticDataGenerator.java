@@ -0,0 +1,416 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.FeeType;
+import com.studentmanagement.model.InquiryStatus;
+import com.studentmanagement.model.StudentStatus;
+import com.studentmanagement.repository.PooledIdAllocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Production-sized sample data for an empty database (sample-data.students > 0): students spread over courses,
+// intakes and statuses; sample-data.fees-per-student fees each, paid, partially paid, pending or overdue, with their
+// payment ledger; and a stream of inquiries over the past year. Parallel workers write chunks of students (with
+// their fees and payments) or inquiries with multi-row INSERTs, one transaction per chunk. Each chunk has its own
+// random generator, seeded from sample-data.seed and the chunk number, and its own id range: the same seed, sizes
+// and reference date give the same rows whatever the number of workers
+@Service
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    // Changing either changes the generated data
+    private static final int STUDENTS_PER_CHUNK = 10_000;
+    private static final int INQUIRIES_PER_CHUNK = 50_000;
+    private static final int MAX_PAYMENTS_PER_FEE = 2;
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+        "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Carlos", "Priya",
+        "Wei", "Fatima", "Ahmed", "Yuki", "Olga", "Mateo", "Aisha", "Liam", "Chloe", "Arjun"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Patel", "Nguyen",
+        "Kim", "Chen", "Singh", "Khan", "Ivanova", "Rossi", "Okafor", "Murphy", "Silva", "Tanaka"
+    };
+    private static final String[] STREETS = {"Main", "Oak", "Pine", "Maple", "Cedar", "Elm", "Lake", "Hill", "Park", "River"};
+    private static final String[] CITIES = {"Springfield", "Riverside", "Franklin", "Greenville", "Fairview", "Madison"};
+
+    // Relative enrolment per course
+    private static final String[] COURSES = {
+        "Computer Science", "Business Administration", "Engineering", "Economics", "Medicine",
+        "Psychology", "Biology", "Law", "Mathematics", "Physics"
+    };
+    private static final int[] COURSE_WEIGHTS = {20, 15, 14, 9, 8, 8, 8, 6, 6, 6};
+
+    private static final FeeType[] FEE_TYPES = {FeeType.LIBRARY, FeeType.LAB, FeeType.EXAM, FeeType.HOSTEL};
+    private static final String[] PAYMENT_METHODS = {"Card", "Card", "Card", "Bank Transfer", "Bank Transfer", "Online", "Cash"};
+    private static final String[] INQUIRY_SUBJECTS = {
+        "Admission Information", "Scholarship Information", "Course Duration", "Fee Structure", "Hostel Availability",
+        "Transfer Credits", "Exam Schedule"
+    };
+
+    private static final String STUDENT_INSERT = "INSERT INTO students (id, first_name, last_name, email, phone, " +
+            "date_of_birth, gender, address, course, enrollment_date, status) VALUES ";
+    private static final String FEE_INSERT = "INSERT INTO fees (id, student_id, fee_type, amount, paid_amount, status, " +
+            "due_date, created_date, paid_date, payment_method, transaction_id, version) VALUES ";
+    private static final String PAYMENT_INSERT = "INSERT INTO payments (id, fee_id, student_id, amount, " +
+            "payment_method, transaction_id, paid_date, paid_amount_after) VALUES ";
+    private static final String INQUIRY_INSERT = "INSERT INTO inquiries (id, name, email, phone, subject, message, " +
+            "status, created_date, response, response_date) VALUES ";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${sample-data.students:0}")
+    private int students;
+
+    @Value("${sample-data.fees-per-student:5}")
+    private int feesPerStudent;
+
+    // Negative: one inquiry per ten students
+    @Value("${sample-data.inquiries:-1}")
+    private int inquiries;
+
+    @Value("${sample-data.seed:42}")
+    private long seed;
+
+    // 0: one per core
+    @Value("${sample-data.workers:0}")
+    private int workers;
+
+    @Value("${sample-data.rows-per-insert:100}")
+    private int rowsPerInsert;
+
+    // Dates are drawn relative to this day (yyyy-MM-dd); empty: today
+    @Value("${sample-data.reference-date:}")
+    private String referenceDate;
+
+    public boolean isEnabled() {
+        return students > 0;
+    }
+
+    public void generate() {
+        long started = System.nanoTime();
+        int inquiryCount = inquiries >= 0 ? inquiries : students / 10;
+        long totalFees = (long) students * feesPerStudent;
+        LocalDateTime reference = (referenceDate.isBlank() ? LocalDate.now() : LocalDate.parse(referenceDate)).atStartOfDay();
+
+        // Whole id ranges up front, so every chunk knows its ids without asking the database
+        long firstStudentId = PooledIdAllocator.students(jdbcTemplate).reserve(students);
+        long firstFeeId = PooledIdAllocator.fees(jdbcTemplate).reserve(Math.max(1, totalFees));
+        long firstPaymentId = PooledIdAllocator.payments(jdbcTemplate).reserve(Math.max(1, totalFees * MAX_PAYMENTS_PER_FEE));
+        Long maxInquiryId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM inquiries", Long.class);
+        long firstInquiryId = maxInquiryId == null ? 1 : maxInquiryId + 1;
+        jdbcTemplate.execute("ALTER TABLE inquiries ALTER COLUMN id RESTART WITH " + (firstInquiryId + inquiryCount));
+
+        AtomicLong payments = new AtomicLong();
+        List<Runnable> chunks = new ArrayList<>();
+        for (int chunk = 0; chunk * STUDENTS_PER_CHUNK < students; chunk++) {
+            int from = chunk * STUDENTS_PER_CHUNK;
+            int to = Math.min(students, from + STUDENTS_PER_CHUNK);
+            long chunkSeed = seed * 1_000_003L + chunk;
+            chunks.add(() -> payments.addAndGet(writeStudents(chunkSeed, from, to, reference,
+                    firstStudentId, firstFeeId, firstPaymentId)));
+        }
+        for (int chunk = 0; chunk * INQUIRIES_PER_CHUNK < inquiryCount; chunk++) {
+            int from = chunk * INQUIRIES_PER_CHUNK;
+            int to = Math.min(inquiryCount, from + INQUIRIES_PER_CHUNK);
+            long chunkSeed = -(seed * 1_000_003L + chunk) - 1;
+            chunks.add(() -> writeInquiries(chunkSeed, from, to, inquiryCount, reference, firstInquiryId));
+        }
+        run(chunks);
+
+        // Fresh statistics for the planner, as after any bulk load
+        jdbcTemplate.execute("ANALYZE");
+        log.info("Generated {} students, {} fees, {} payments and {} inquiries in {} ms", students, totalFees,
+                payments.get(), inquiryCount, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void run(List<Runnable> chunks) {
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, chunks.size())),
+                task -> new Thread(task, "sample-data"));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable chunk : chunks) {
+                futures.add(executor.submit(chunk));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error generating sample data: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating sample data", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Students [from, to) with their fees and payments, in one transaction; returns the number of payments. Rows go
+    // out a statement at a time (students, then their fees) rather than being held for the whole chunk
+    private long writeStudents(long chunkSeed, int from, int to, LocalDateTime reference,
+                               long firstStudentId, long firstFeeId, long firstPaymentId) {
+        SplittableRandom random = new SplittableRandom(chunkSeed);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            long payments;
+            try (MultiRowInsert studentRows = new MultiRowInsert(connection, STUDENT_INSERT, 11, rowsPerInsert);
+                 MultiRowInsert feeRows = new MultiRowInsert(connection, FEE_INSERT, 12, rowsPerInsert);
+                 MultiRowInsert paymentRows = new MultiRowInsert(connection, PAYMENT_INSERT, 8, rowsPerInsert)) {
+                List<Object[]> fees = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    long studentId = firstStudentId + i;
+                    LocalDateTime enrolled = reference.minusDays(1 + (long) (4 * 365 * Math.pow(random.nextDouble(), 1.3)))
+                            .plusMinutes(random.nextInt(9 * 60) + 8 * 60);
+                    studentRows.add(student(random, i, studentId, enrolled, reference));
+                    for (int f = 0; f < feesPerStudent; f++) {
+                        long feeIndex = (long) i * feesPerStudent + f;
+                        fees.add(fee(random, f, firstFeeId + feeIndex, studentId, enrolled, reference,
+                                firstPaymentId + feeIndex * MAX_PAYMENTS_PER_FEE, paymentRows));
+                    }
+                    if ((i - from + 1) % studentRows.rowsPerStatement == 0 || i == to - 1) {
+                        // The students' rows first, for the foreign key (already written when a statement just filled)
+                        studentRows.flush();
+                        for (Object[] fee : fees) {
+                            feeRows.add(fee);
+                        }
+                        fees.clear();
+                    }
+                }
+                payments = paymentRows.added;
+            }
+            connection.commit();
+            return payments;
+        } catch (SQLException e) {
+            throw new RuntimeException("Error writing sample students " + from + "-" + to + ": " + e.getMessage(), e);
+        }
+    }
+
+    private Object[] student(SplittableRandom random, int index, long id, LocalDateTime enrolled, LocalDateTime reference) {
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        int genderDraw = random.nextInt(100);
+        String gender = genderDraw < 49 ? "Female" : genderDraw < 98 ? "Male" : "Other";
+        LocalDate born = enrolled.toLocalDate().minusYears(17 + random.nextInt(9)).minusDays(random.nextInt(365));
+        String address = (1 + random.nextInt(9999)) + " " + STREETS[random.nextInt(STREETS.length)] + " St, " +
+                CITIES[random.nextInt(CITIES.length)];
+        // Most students from four intakes ago have graduated; a few of the rest have left
+        boolean finalYear = enrolled.isBefore(reference.minusYears(3).minusMonths(6));
+        int statusDraw = random.nextInt(100);
+        StudentStatus status = finalYear && statusDraw < 70 ? StudentStatus.GRADUATED
+                : statusDraw >= 92 ? StudentStatus.INACTIVE : StudentStatus.ACTIVE;
+        return new Object[] {
+            id, first, last, (first + "." + last + "." + index + "@example.com").toLowerCase(Locale.ROOT),
+            "+1" + (2_000_000_000L + random.nextLong(8_000_000_000L)), born.toString(), gender, address,
+            weighted(random, COURSES, COURSE_WEIGHTS), enrolled, status.getCode()
+        };
+    }
+
+    // Past-due fees are mostly paid, the rest overdue (some partly paid); upcoming ones are mostly still pending.
+    // Every paid amount is the sum of the fee's ledger entries, added to paymentRows
+    private Object[] fee(SplittableRandom random, int number, long id, long studentId, LocalDateTime enrolled,
+                         LocalDateTime reference, long firstPaymentId, MultiRowInsert paymentRows) throws SQLException {
+        FeeType type = number == 0 ? FeeType.TUITION : FEE_TYPES[random.nextInt(FEE_TYPES.length)];
+        BigDecimal amount = switch (type) {
+            case TUITION -> BigDecimal.valueOf(3000 + 50L * random.nextInt(121));
+            case HOSTEL -> BigDecimal.valueOf(1500 + 50L * random.nextInt(51));
+            case LAB -> BigDecimal.valueOf(200 + 10L * random.nextInt(41));
+            default -> BigDecimal.valueOf(100 + 5L * random.nextInt(41));
+        };
+        long spanDays = Math.max(1, Duration.between(enrolled, reference.plusDays(120)).toDays() - 30);
+        LocalDateTime due = enrolled.toLocalDate().plusDays(30 + random.nextLong(spanDays)).atTime(23, 59);
+        // Billed 45 days ahead, but never before enrolment, and a day before the reference date at the latest so
+        // that its payments fit before it too
+        LocalDateTime latestBilling = reference.minusDays(1);
+        LocalDateTime billed = due.minusDays(45).isAfter(latestBilling) ? latestBilling : due.minusDays(45);
+        LocalDateTime created = billed.isBefore(enrolled) ? enrolled : billed;
+        boolean pastDue = due.isBefore(reference);
+
+        int draw = random.nextInt(100);
+        FeeStatus status;
+        BigDecimal paid;
+        if (pastDue ? draw < 85 : draw < 25) {
+            status = FeeStatus.PAID;
+            paid = amount;
+        } else if (pastDue ? draw < 90 : draw < 45) {
+            status = pastDue ? FeeStatus.OVERDUE : FeeStatus.PARTIALLY_PAID;
+            paid = amount.multiply(BigDecimal.valueOf(20 + random.nextInt(61))).divide(BigDecimal.valueOf(100))
+                    .setScale(0, RoundingMode.DOWN);
+        } else {
+            status = pastDue ? FeeStatus.OVERDUE : FeeStatus.PENDING;
+            paid = BigDecimal.ZERO;
+        }
+
+        LocalDateTime lastPaid = null;
+        String method = null;
+        String transactionId = null;
+        if (paid.signum() > 0) {
+            // Paid in full at once or in two installments; a partial amount in one payment
+            int installments = status == FeeStatus.PAID && random.nextInt(100) < 30 ? 2 : 1;
+            LocalDateTime latest = pastDue && status == FeeStatus.PAID ? due : reference;
+            long windowMinutes = Math.max(1, Duration.between(created, latest).toMinutes());
+            BigDecimal first = installments == 2 ? paid.divide(BigDecimal.valueOf(2)).setScale(0, RoundingMode.DOWN) : paid;
+            BigDecimal after = BigDecimal.ZERO;
+            LocalDateTime paidDate = created;
+            for (int k = 0; k < installments; k++) {
+                BigDecimal payment = k == 0 ? first : paid.subtract(first);
+                after = after.add(payment);
+                paidDate = paidDate.plusMinutes(1 + random.nextLong(Math.max(1, windowMinutes / installments)));
+                method = PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)];
+                transactionId = "SYN-" + id + "-" + (k + 1);
+                paymentRows.add(firstPaymentId + k, id, studentId, payment, method, transactionId, paidDate, after);
+            }
+            lastPaid = paidDate;
+        }
+        return new Object[] {
+            id, studentId, type.getCode(), amount, paid, status.getCode(), due, created, lastPaid, method, transactionId, 0L
+        };
+    }
+
+    // Inquiries [from, to) of count, evenly spread over the year before the reference date in id order. Recent ones
+    // are still mostly pending, older ones responded to or closed
+    private void writeInquiries(long chunkSeed, int from, int to, int count, LocalDateTime reference, long firstId) {
+        SplittableRandom random = new SplittableRandom(chunkSeed);
+        long spacingSeconds = Math.max(1, 365L * 24 * 3600 / Math.max(1, count));
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (MultiRowInsert rows = new MultiRowInsert(connection, INQUIRY_INSERT, 10, rowsPerInsert)) {
+                for (int i = from; i < to; i++) {
+                    String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                    String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                    LocalDateTime created = reference.minusSeconds((count - i) * spacingSeconds - random.nextLong(spacingSeconds));
+                    LocalDateTime responded = created.plusMinutes(30 + random.nextInt(72 * 60));
+                    boolean recent = created.isAfter(reference.minusDays(7));
+                    int draw = random.nextInt(100);
+                    InquiryStatus status = recent ? (draw < 70 ? InquiryStatus.PENDING : InquiryStatus.RESPONDED)
+                            : draw < 5 ? InquiryStatus.PENDING : draw < 65 ? InquiryStatus.RESPONDED : InquiryStatus.CLOSED;
+                    String subject = INQUIRY_SUBJECTS[random.nextInt(INQUIRY_SUBJECTS.length)];
+                    String course = weighted(random, COURSES, COURSE_WEIGHTS);
+                    boolean answered = status != InquiryStatus.PENDING;
+                    rows.add(firstId + i, first + " " + last,
+                            (first + "." + last + "." + i + "@example.org").toLowerCase(Locale.ROOT),
+                            "+1" + (2_000_000_000L + random.nextLong(8_000_000_000L)), subject,
+                            "Question about " + subject.toLowerCase(Locale.ROOT) + " for the " + course + " program.",
+                            status.getCode(), created,
+                            answered ? "Thank you for your inquiry; details have been sent by email." : null,
+                            answered ? (responded.isAfter(reference) ? reference : responded) : null);
+                }
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            throw new RuntimeException("Error writing sample inquiries " + from + "-" + to + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String weighted(SplittableRandom random, String[] values, int[] weights) {
+        int total = Arrays.stream(weights).sum();
+        int draw = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            draw -= weights[i];
+            if (draw < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    // INSERT ... VALUES (...), (...), ... with up to rowsPerStatement rows per execution; close() writes the rest
+    private static final class MultiRowInsert implements AutoCloseable {
+
+        private final Connection connection;
+        private final String insert;
+        private final int columns;
+        private final int rowsPerStatement;
+        private final List<Object> values = new ArrayList<>();
+        private PreparedStatement full;
+        private long added;
+
+        MultiRowInsert(Connection connection, String insert, int columns, int rowsPerStatement) {
+            this.connection = connection;
+            this.insert = insert;
+            this.columns = columns;
+            this.rowsPerStatement = Math.max(1, rowsPerStatement);
+        }
+
+        void add(Object... row) throws SQLException {
+            values.addAll(Arrays.asList(row));
+            added++;
+            if (values.size() == columns * rowsPerStatement) {
+                if (full == null) {
+                    full = connection.prepareStatement(sql(rowsPerStatement));
+                }
+                execute(full);
+            }
+        }
+
+        void flush() throws SQLException {
+            if (!values.isEmpty()) {
+                try (PreparedStatement partial = connection.prepareStatement(sql(values.size() / columns))) {
+                    execute(partial);
+                }
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+            } finally {
+                if (full != null) {
+                    full.close();
+                }
+            }
+        }
+
+        private void execute(PreparedStatement statement) throws SQLException {
+            for (int i = 0; i < values.size(); i++) {
+                statement.setObject(i + 1, values.get(i));
+            }
+            statement.executeUpdate();
+            values.clear();
+        }
+
+        private String sql(int rows) {
+            StringBuilder row = new StringBuilder("(");
+            for (int i = 0; i < columns; i++) {
+                row.append(i == 0 ? "?" : ", ?");
+            }
+            row.append(')');
+            StringBuilder sql = new StringBuilder(insert);
+            for (int i = 0; i < rows; i++) {
+                sql.append(i == 0 ? "" : ", ").append(row);
+            }
+            return sql.toString();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+-- Schema as previously generated by Hibernate (ddl-auto=create-drop), including the keyset-pagination indexes
+
+CREATE SEQUENCE students_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE fees_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE students (
+    id              BIGINT       NOT NULL,
+    first_name      VARCHAR(255) NOT NULL,
+    last_name       VARCHAR(255) NOT NULL,
+    email           VARCHAR(255) NOT NULL UNIQUE,
+    phone           VARCHAR(255) NOT NULL,
+    date_of_birth   VARCHAR(255) NOT NULL,
+    gender          VARCHAR(255) NOT NULL,
+    address         VARCHAR(255) NOT NULL,
+    course          VARCHAR(255) NOT NULL,
+    enrollment_date TIMESTAMP(6),
+    status          VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE fees (
+    id             BIGINT        NOT NULL,
+    student_id     BIGINT        NOT NULL,
+    fee_type       VARCHAR(255)  NOT NULL,
+    amount         NUMERIC(38,2) NOT NULL,
+    paid_amount    NUMERIC(38,2),
+    status         VARCHAR(255),
+    due_date       TIMESTAMP(6),
+    created_date   TIMESTAMP(6),
+    paid_date      TIMESTAMP(6),
+    payment_method VARCHAR(255),
+    transaction_id VARCHAR(255),
+    version        BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE inquiries (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name          VARCHAR(255)  NOT NULL,
+    email         VARCHAR(255)  NOT NULL,
+    phone         VARCHAR(255)  NOT NULL,
+    subject       VARCHAR(255)  NOT NULL,
+    message       VARCHAR(1000) NOT NULL,
+    status        VARCHAR(255),
+    created_date  TIMESTAMP(6),
+    response      VARCHAR(255),
+    response_date TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE activity_events (
+    event_sequence BIGINT       NOT NULL,
+    type           VARCHAR(255) NOT NULL,
+    message        VARCHAR(500) NOT NULL,
+    created_date   TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (event_sequence)
+);
+
+CREATE TABLE payment_idempotency_keys (
+    idempotency_key VARCHAR(255)  NOT NULL,
+    fee_id          BIGINT        NOT NULL,
+    amount          NUMERIC(38,2) NOT NULL,
+    transaction_id  VARCHAR(255)  NOT NULL,
+    created_date    TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX idx_students_status_id ON students (status, id);
+CREATE INDEX idx_students_course_id ON students (course, id);
+CREATE INDEX idx_fees_student_id_id ON fees (student_id, id);
+CREATE INDEX idx_fees_status_id ON fees (status, id);
+CREATE INDEX idx_fees_fee_type_id ON fees (fee_type, id);
+CREATE INDEX idx_inquiries_status_id ON inquiries (status, id);
+CREATE INDEX idx_payment_idempotency_keys_created_date ON payment_idempotency_keys (created_date);
+
+ALTER TABLE fees ADD CONSTRAINT fk_fees_student FOREIGN KEY (student_id) REFERENCES students (id);
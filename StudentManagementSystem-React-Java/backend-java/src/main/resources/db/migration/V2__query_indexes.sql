@@ -0,0 +1,14 @@
+-- Indexes for the remaining repository filters and orderings; QueryPlanCheck fails on any new table scan
+
+-- StudentRepository.countEnrolledBetween (new admissions this month)
+CREATE INDEX idx_students_enrollment_date ON students (enrollment_date);
+
+-- FeeRepository.findPendingFeesByStudentId
+CREATE INDEX idx_fees_student_id_status ON fees (student_id, status);
+
+-- InquiryRepository.findByEmail and findAllOrderByCreatedDateDesc (read in index order, no sort)
+CREATE INDEX idx_inquiries_email ON inquiries (email);
+CREATE INDEX idx_inquiries_created_date ON inquiries (created_date DESC);
+
+-- ActivityEventRepository.findTopByOrderBySequenceDesc and findAllByOrderBySequenceDesc (journal warm-up)
+CREATE INDEX idx_activity_events_sequence_desc ON activity_events (event_sequence DESC);
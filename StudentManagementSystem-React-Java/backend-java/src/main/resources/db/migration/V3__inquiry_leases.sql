@@ -0,0 +1,4 @@
+-- Work-queue leases for pending inquiries: a claimed inquiry belongs to lease_owner until lease_expires_at,
+-- after which any worker may claim it again
+ALTER TABLE inquiries ADD COLUMN lease_owner VARCHAR(100);
+ALTER TABLE inquiries ADD COLUMN lease_expires_at TIMESTAMP;
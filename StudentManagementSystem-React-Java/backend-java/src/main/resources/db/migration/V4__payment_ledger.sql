@@ -0,0 +1,27 @@
+-- Append-only payment ledger. fees.paid_amount, and the last payment's method, transaction id and date on the
+-- fee, are a snapshot of it: updated with each payment and rebuilt from it by FeeService.rebuildPaymentSnapshots
+CREATE SEQUENCE payments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE payments (
+    id                BIGINT        NOT NULL,
+    fee_id            BIGINT        NOT NULL,
+    student_id        BIGINT        NOT NULL,
+    amount            NUMERIC(38,2) NOT NULL,
+    payment_method    VARCHAR(255),
+    transaction_id    VARCHAR(255)  NOT NULL,
+    paid_date         TIMESTAMP(6)  NOT NULL,
+    paid_amount_after NUMERIC(38,2) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- PaymentRepository history pages per fee and per student, in id order
+CREATE INDEX idx_payments_fee_id_id ON payments (fee_id, id);
+CREATE INDEX idx_payments_student_id_id ON payments (student_id, id);
+
+-- Amounts paid before the ledger existed become one opening entry per fee. Each id is a whole sequence value,
+-- which the pooled optimizer never hands out again
+INSERT INTO payments (id, fee_id, student_id, amount, payment_method, transaction_id, paid_date, paid_amount_after)
+SELECT NEXT VALUE FOR payments_seq, id, student_id, paid_amount, payment_method,
+       COALESCE(transaction_id, 'opening-' || id), COALESCE(paid_date, created_date, CURRENT_TIMESTAMP), paid_amount
+FROM fees
+WHERE paid_amount > 0;
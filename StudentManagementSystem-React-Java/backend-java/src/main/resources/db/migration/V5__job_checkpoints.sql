@@ -0,0 +1,8 @@
+-- Progress of resumable batch jobs: a run that stops part-way continues after last_id with its original cutoff
+CREATE TABLE job_checkpoints (
+    job_name     VARCHAR(255) NOT NULL,
+    last_id      BIGINT       NOT NULL,
+    run_started  TIMESTAMP(6),
+    updated_date TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (job_name)
+);
@@ -0,0 +1,9 @@
+-- Replication heartbeat: the primary stamps this row every few hundred milliseconds, and the stamp a replica has
+-- applied tells how far behind the primary it is (epoch milliseconds)
+CREATE TABLE replication_heartbeat (
+    id   INT    NOT NULL,
+    beat BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO replication_heartbeat (id, beat) VALUES (1, 0);
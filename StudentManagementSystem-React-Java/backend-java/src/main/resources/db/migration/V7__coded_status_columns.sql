@@ -0,0 +1,55 @@
+-- Statuses and fee types are stored as SMALLINT codes (the model's StudentStatus, FeeStatus, FeeType and
+-- InquiryStatus) instead of their labels. Existing labels are matched in any case. Unknown statuses become the
+-- entity's default, and unknown fee types become Other Fee. The inquiry statuses the old frontend sent (Open,
+-- In_Progress, Resolved) map to Pending and Responded. The (column, id) indexes are rebuilt on the codes
+
+ALTER TABLE students ADD COLUMN status_code SMALLINT;
+UPDATE students SET status_code = CASE LOWER(TRIM(status))
+    WHEN 'inactive' THEN 2
+    WHEN 'graduated' THEN 3
+    ELSE 1 END
+WHERE status IS NOT NULL;
+DROP INDEX idx_students_status_id;
+ALTER TABLE students DROP COLUMN status;
+ALTER TABLE students ALTER COLUMN status_code RENAME TO status;
+CREATE INDEX idx_students_status_id ON students (status, id);
+
+ALTER TABLE fees ADD COLUMN status_code SMALLINT;
+ALTER TABLE fees ADD COLUMN fee_type_code SMALLINT;
+UPDATE fees SET
+    status_code = CASE
+        WHEN status IS NULL THEN NULL
+        WHEN LOWER(TRIM(status)) IN ('partially paid', 'partially_paid') THEN 2
+        WHEN LOWER(TRIM(status)) = 'paid' THEN 3
+        WHEN LOWER(TRIM(status)) = 'overdue' THEN 4
+        ELSE 1 END,
+    fee_type_code = CASE LOWER(TRIM(fee_type))
+        WHEN 'tuition fee' THEN 1
+        WHEN 'library fee' THEN 2
+        WHEN 'lab fee' THEN 3
+        WHEN 'exam fee' THEN 4
+        WHEN 'hostel fee' THEN 5
+        ELSE 6 END;
+DROP INDEX idx_fees_status_id;
+DROP INDEX idx_fees_fee_type_id;
+DROP INDEX idx_fees_student_id_status;
+ALTER TABLE fees DROP COLUMN status;
+ALTER TABLE fees DROP COLUMN fee_type;
+ALTER TABLE fees ALTER COLUMN status_code RENAME TO status;
+ALTER TABLE fees ALTER COLUMN fee_type_code RENAME TO fee_type;
+ALTER TABLE fees ALTER COLUMN fee_type SET NOT NULL;
+CREATE INDEX idx_fees_status_id ON fees (status, id);
+CREATE INDEX idx_fees_fee_type_id ON fees (fee_type, id);
+CREATE INDEX idx_fees_student_id_status ON fees (student_id, status);
+
+ALTER TABLE inquiries ADD COLUMN status_code SMALLINT;
+UPDATE inquiries SET status_code = CASE LOWER(TRIM(status))
+    WHEN 'responded' THEN 2
+    WHEN 'resolved' THEN 2
+    WHEN 'closed' THEN 3
+    ELSE 1 END
+WHERE status IS NOT NULL;
+DROP INDEX idx_inquiries_status_id;
+ALTER TABLE inquiries DROP COLUMN status;
+ALTER TABLE inquiries ALTER COLUMN status_code RENAME TO status;
+CREATE INDEX idx_inquiries_status_id ON inquiries (status, id);
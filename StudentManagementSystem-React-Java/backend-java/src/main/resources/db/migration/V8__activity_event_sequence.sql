@@ -0,0 +1,5 @@
+-- Activity event sequences come from the database instead of a per-JVM counter, so nodes sharing the database
+-- never hand out the same one. No allocation block: the feed is ordered by sequence, so each event takes the
+-- next value as it is recorded
+CREATE SEQUENCE activity_events_seq START WITH 1 INCREMENT BY 1;
+ALTER SEQUENCE activity_events_seq RESTART WITH (SELECT COALESCE(MAX(event_sequence), 0) + 1 FROM activity_events);
@@ -0,0 +1,4 @@
+-- The node running a job holds it until claimed_until and extends the claim with every chunk. Other nodes leave
+-- the job alone while the claim is live, and take a run over (resuming at last_id) once it has lapsed
+ALTER TABLE job_checkpoints ADD COLUMN run_owner VARCHAR(255);
+ALTER TABLE job_checkpoints ADD COLUMN claimed_until TIMESTAMP(6);
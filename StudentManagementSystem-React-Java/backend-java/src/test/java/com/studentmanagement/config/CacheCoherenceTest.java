@@ -0,0 +1,131 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.StudentManagementApplication;
+import com.studentmanagement.dto.PaymentRequestDto;
+import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.Inquiry;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.service.FeeService;
+import com.studentmanagement.service.InquiryService;
+import com.studentmanagement.service.OverdueFeeService;
+import com.studentmanagement.service.ResourceVersions;
+import com.studentmanagement.service.ResourceVersions.Resource;
+import com.studentmanagement.service.StudentService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two app nodes in one JVM on one database, connected by the local invalidation bus. Node A warms its
+// second-level cache, node B writes, and node A must read B's changes rather than its cached copies
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CacheCoherenceTest {
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void startNodes() {
+        nodeA = start();
+        nodeB = start();
+        jdbcTemplate = nodeA.getBean(JdbcTemplate.class);
+    }
+
+    @AfterAll
+    void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    void entityAndQueryCachesSeeAnotherNodesUpdate() {
+        StudentService studentsA = nodeA.getBean(StudentService.class);
+        Long studentId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM students", Long.class);
+        Student student = studentsA.getStudentById(studentId).orElseThrow();
+        int inCourse = studentsA.getStudentsByCourse("Coherence").size();
+
+        student.setCourse("Coherence");
+        nodeB.getBean(StudentService.class).updateStudent(studentId, student);
+
+        assertThat(studentsA.getStudentById(studentId).orElseThrow().getCourse()).isEqualTo("Coherence");
+        // Query results over the updated table
+        assertThat(studentsA.getStudentsByCourse("Coherence")).hasSize(inCourse + 1);
+    }
+
+    @Test
+    void feeCacheSeesAnotherNodesPayment() {
+        FeeService feesA = nodeA.getBean(FeeService.class);
+        Long feeId = pendingFee("MIN");
+        feesA.getFeeById(feeId).orElseThrow();
+
+        PaymentRequestDto payment = new PaymentRequestDto();
+        payment.setAmount(new BigDecimal("1.00"));
+        payment.setPaymentMethod("Card");
+        BigDecimal paid = nodeB.getBean(FeeService.class).processPayment(feeId, payment).getPaidAmount();
+
+        assertThat(feesA.getFeeById(feeId).orElseThrow().getPaidAmount()).isEqualByComparingTo(paid);
+    }
+
+    // Bulk JPQL update, which Hibernate only evicts on the node that ran it
+    @Test
+    void feeCacheSeesAnotherNodesOverdueJob() {
+        FeeService feesA = nodeA.getBean(FeeService.class);
+        Long dueId = pendingFee("MAX");
+        feesA.getFeeById(dueId).orElseThrow();
+
+        jdbcTemplate.update("UPDATE fees SET due_date = DATEADD('DAY', -1, CURRENT_TIMESTAMP) WHERE id = ?", dueId);
+        nodeB.getBean(OverdueFeeService.class).markOverdueFees();
+
+        assertThat(feesA.getFeeById(dueId).map(Fee::getStatus).orElseThrow()).isEqualTo(FeeStatus.OVERDUE);
+    }
+
+    // Node A's ETags move with node B's writes, so A never answers 304 for data B changed
+    @Test
+    void etagsFollowAnotherNodesWrites() {
+        ResourceVersions versionsA = nodeA.getBean(ResourceVersions.class);
+
+        String students = versionsA.etag(Resource.STUDENTS);
+        Long studentId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM students", Long.class);
+        Student student = nodeB.getBean(StudentService.class).getStudentById(studentId).orElseThrow();
+        student.setPhone("+15550001111");
+        nodeB.getBean(StudentService.class).updateStudent(studentId, student);
+        assertThat(versionsA.etag(Resource.STUDENTS)).isNotEqualTo(students);
+
+        String fees = versionsA.etag(Resource.FEES);
+        nodeB.getBean(FeeService.class).processPayment(pendingFee("MIN"), new PaymentRequestDto(new BigDecimal("1.00"), "Card"));
+        assertThat(versionsA.etag(Resource.FEES)).isNotEqualTo(fees);
+
+        // Inquiries are not second-level cached, but their ETag has to move all the same
+        InquiryService inquiriesB = nodeB.getBean(InquiryService.class);
+        String created = versionsA.etag(Resource.INQUIRIES);
+        inquiriesB.createInquiry(new Inquiry("Sam Lee", "sam.lee@example.org", "+15550000000", "Admission", "Intake dates?"));
+        assertThat(versionsA.etag(Resource.INQUIRIES)).isNotEqualTo(created);
+
+        String claimed = versionsA.etag(Resource.INQUIRIES);
+        assertThat(inquiriesB.claimPending("desk-b", 1)).isNotEmpty();
+        assertThat(versionsA.etag(Resource.INQUIRIES)).isNotEqualTo(claimed);
+    }
+
+    // The lowest or highest pending fee, so the two fee tests never share one
+    private Long pendingFee(String aggregate) {
+        return jdbcTemplate.queryForObject("SELECT " + aggregate + "(id) FROM fees WHERE status = " +
+                FeeStatus.PENDING.getCode(), Long.class);
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(StudentManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // Both nodes open the same named database; the first one to start seeds it
+                .run("--spring.datasource.url=jdbc:h2:mem:cache_coherence;DB_CLOSE_DELAY=-1");
+    }
+}
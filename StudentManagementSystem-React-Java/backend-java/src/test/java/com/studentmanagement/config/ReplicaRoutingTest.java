@@ -0,0 +1,165 @@
+package com.studentmanagement.config;
+
+import com.studentmanagement.model.Student;
+import com.studentmanagement.service.StudentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the app with the replica profile, applying primary changes to the replica only when told to, and checks
+// which pool served each read: the replica once it has caught up, the primary right after the client's own write
+// (and the read sees the write) and while the replica lags. The test thread is one client; an HTTP client is
+// another, carrying its last write in X-Last-Write
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "spring.datasource.url=jdbc:h2:mem:replica_routing;DB_CLOSE_DELAY=-1",
+    "datasource.replica.url=jdbc:h2:mem:replica_routing_replica;DB_CLOSE_DELAY=-1",
+    "datasource.replica.max-lag-ms=" + ReplicaRoutingTest.MAX_LAG_MILLIS,
+    "datasource.replica.heartbeat-interval-ms=50",
+    // Applied by hand below, after the startup copy
+    "datasource.replica.local-apply.interval-ms=3600000"
+})
+@ActiveProfiles({"test", "replica"})
+class ReplicaRoutingTest {
+
+    static final long MAX_LAG_MILLIS = 1500;
+
+    @Autowired
+    private StudentService students;
+
+    @Autowired
+    private LocalReplicaApplier applier;
+
+    @Autowired
+    private ReadYourWritesInterceptor readYourWrites;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private JdbcTemplate primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Test
+    void readsFollowReplicaLag() throws InterruptedException {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        Long studentId = primary.queryForObject("SELECT MIN(id) FROM students", Long.class);
+        catchUp();
+        assertThat(route(() -> course(studentId))).as("caught up").isEqualTo("replica");
+
+        // Read-your-writes: the replica still has the old course, the read must not
+        Student student = students.getStudentById(studentId).orElseThrow();
+        String before = student.getCourse();
+        student.setCourse("Replica Check");
+        students.updateStudent(studentId, student);
+        assertThat(route(() -> course(studentId))).as("after write").isEqualTo("primary_after_write");
+        assertThat(course(studentId)).as("read after write").isEqualTo("Replica Check");
+        assertThat(replica.queryForObject("SELECT course FROM students WHERE id = ?", String.class, studentId))
+                .as("replica behind").isEqualTo(before);
+
+        catchUp();
+        assertThat(route(() -> course(studentId))).as("write applied").isEqualTo("replica");
+        assertThat(course(studentId)).as("replica read").isEqualTo("Replica Check");
+
+        // Plain auto-commit JDBC writes count too
+        primary.update("UPDATE students SET course = ? WHERE id = ?", before, studentId);
+        assertThat(route(() -> course(studentId))).as("jdbc write").isEqualTo("primary_after_write");
+
+        // No apply for longer than max-lag-ms
+        catchUp();
+        Thread.sleep(MAX_LAG_MILLIS + 500);
+        assertThat(route(() -> course(studentId))).as("replica lagging").isEqualTo("primary_lagging");
+    }
+
+    @Test
+    void onlyTheWritingClientReadsFromThePrimary() throws Exception {
+        Long studentId = primary.queryForObject("SELECT MIN(id) FROM students", Long.class);
+        catchUp();
+
+        // Another client's write leaves this one's reads on the replica
+        Thread otherClient = new Thread(() -> primary.update("UPDATE students SET phone = phone WHERE id = ?", studentId));
+        otherClient.start();
+        otherClient.join();
+        assertThat(route(() -> course(studentId))).as("other client wrote").isEqualTo("replica");
+
+        // An HTTP request that writes reports when, and its later reads go to the primary
+        MockHttpServletRequest writeRequest = new MockHttpServletRequest("PUT", "/api/students/" + studentId);
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        String lastWrite;
+        readYourWrites.preHandle(writeRequest, writeResponse, null);
+        try {
+            assertThat(route(() -> course(studentId))).as("before the request's write").isEqualTo("replica");
+            primary.update("UPDATE students SET phone = phone WHERE id = ?", studentId);
+            lastWrite = writeResponse.getHeader(ReadYourWritesInterceptor.LAST_WRITE_HEADER);
+            assertThat(lastWrite).as("X-Last-Write").isNotNull();
+            assertThat(route(() -> course(studentId))).as("same request").isEqualTo("primary_after_write");
+        } finally {
+            readYourWrites.afterCompletion(writeRequest, writeResponse, null, null);
+        }
+
+        // The client's next request, wherever it lands, carries the write; a request without it does not wait
+        assertThat(routeAs(lastWrite, studentId)).as("client sends X-Last-Write").isEqualTo("primary_after_write");
+        assertThat(routeAs(null, studentId)).as("client without X-Last-Write").isEqualTo("replica");
+
+        catchUp();
+        assertThat(routeAs(lastWrite, studentId)).as("write applied").isEqualTo("replica");
+    }
+
+    private String routeAs(String lastWrite, Long studentId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/students");
+        if (lastWrite != null) {
+            request.addHeader(ReadYourWritesInterceptor.LAST_WRITE_HEADER, lastWrite);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        readYourWrites.preHandle(request, response, null);
+        try {
+            return route(() -> course(studentId));
+        } finally {
+            readYourWrites.afterCompletion(request, response, null, null);
+        }
+    }
+
+    // A keyset page runs a query in a read-only service transaction (entity lookups by id may be cache hits)
+    private String course(Long studentId) {
+        return students.getStudentsPage(studentId - 1, 1).getItems().get(0).getCourse();
+    }
+
+    private void catchUp() throws InterruptedException {
+        // Let startup and earlier writes finish before the copy, then give the monitor a poll to see it
+        Thread.sleep(200);
+        applier.apply();
+        Thread.sleep(200);
+    }
+
+    // The route tag whose counter moved while running the read
+    private String route(Runnable read) {
+        String[] routes = {"replica", "primary_after_write", "primary_lagging"};
+        double[] before = new double[routes.length];
+        for (int i = 0; i < routes.length; i++) {
+            before[i] = reads(routes[i]);
+        }
+        read.run();
+        String moved = null;
+        for (int i = 0; i < routes.length; i++) {
+            if (reads(routes[i]) > before[i]) {
+                moved = moved == null ? routes[i] : moved + "," + routes[i];
+            }
+        }
+        return moved;
+    }
+
+    private double reads(String route) {
+        return registry.get("datasource.routing.reads").tag("route", route).functionCounter().count();
+    }
+}
@@ -0,0 +1,29 @@
+package com.studentmanagement.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportResponsesTest {
+
+    @Test
+    void gzipWhenListedAndNotRefused() {
+        assertThat(ExportResponses.acceptsGzip("gzip")).isTrue();
+        assertThat(ExportResponses.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(ExportResponses.acceptsGzip("gzip; q=1.0, br")).isTrue();
+    }
+
+    @Test
+    void noGzipWhenAbsentOrRefused() {
+        assertThat(ExportResponses.acceptsGzip(null)).isFalse();
+        assertThat(ExportResponses.acceptsGzip("br, deflate")).isFalse();
+        assertThat(ExportResponses.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ExportResponses.acceptsGzip("gzip; q=0.000")).isFalse();
+    }
+
+    @Test
+    void malformedQualityIsNoRefusal() {
+        assertThat(ExportResponses.acceptsGzip("gzip;q=abc")).isTrue();
+        assertThat(ExportResponses.acceptsGzip("gzip;q=")).isTrue();
+    }
+}
@@ -0,0 +1,223 @@
+package com.studentmanagement.repository;
+
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.FeeType;
+import com.studentmanagement.model.InquiryStatus;
+import com.studentmanagement.model.StudentStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+// Runs every declared repository query against a seeded H2 and EXPLAINs the SQL Hibernate issued: none may scan
+// a whole table, and every repository method needs a probe here
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "spring.datasource.url=jdbc:h2:mem:query_plans;DB_CLOSE_DELAY=-1",
+    "sample-data.students=20000",
+    "sample-data.fees-per-student=2",
+    "sample-data.inquiries=5000",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.studentmanagement.repository.QueryPlanTest$Capture",
+    // Every probe has to reach the database; a cache hit would issue no SQL to explain
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final int ROWS = 20000;
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+        StudentRepository.class, FeeRepository.class, InquiryRepository.class,
+        ActivityEventRepository.class, PaymentIdempotencyKeyRepository.class, PaymentRepository.class,
+        JobCheckpointRepository.class
+    );
+
+    // Queries that read (nearly) every row by definition
+    private static final Map<String, String> ALLOWED_SCANS = Map.of(
+        "StudentRepository.searchStudents", "LIKE '%term%'; searches are served by StudentSearchIndex, this is the cold-start fallback",
+        "FeeRepository.getTotalPendingFees", "status <> PAID matches most rows"
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StudentRepository students;
+
+    @Autowired
+    private FeeRepository fees;
+
+    @Autowired
+    private InquiryRepository inquiries;
+
+    @Autowired
+    private ActivityEventRepository events;
+
+    @Autowired
+    private PaymentIdempotencyKeyRepository idempotencyKeys;
+
+    @Autowired
+    private PaymentRepository payments;
+
+    @Autowired
+    private JobCheckpointRepository checkpoints;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO activity_events (event_sequence, type, message, created_date) " +
+                "SELECT X, 'admission', 'Seeded event ' || X, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)", ROWS);
+        jdbcTemplate.update("INSERT INTO payment_idempotency_keys (idempotency_key, fee_id, amount, transaction_id, created_date) " +
+                "SELECT 'key-' || X, X, 1, 'txn-' || X, DATEADD('MINUTE', -X, CURRENT_TIMESTAMP) FROM SYSTEM_RANGE(1, ?)", ROWS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseAnIndex() {
+        Map<String, Runnable> probes = probes();
+        return REPOSITORIES.stream()
+                .flatMap(repository -> Stream.of(repository.getDeclaredMethods())
+                        .map(method -> repository.getSimpleName() + "." + method.getName()))
+                .sorted()
+                .map(name -> DynamicTest.dynamicTest(name, () -> checkPlan(name, probes.get(name))));
+    }
+
+    private void checkPlan(String name, Runnable probe) {
+        if (probe == null) {
+            fail("No probe in QueryPlanTest for " + name);
+        }
+        Capture.STATEMENTS.clear();
+        // Rolled back so probes of modifying queries leave the data alone
+        transactionTemplate.executeWithoutResult(status -> {
+            probe.run();
+            status.setRollbackOnly();
+        });
+        List<String> statements = new ArrayList<>(Capture.STATEMENTS);
+        assertThat(statements).as("SQL issued by %s", name).isNotEmpty();
+
+        String allowed = ALLOWED_SCANS.get(name);
+        for (String sql : statements) {
+            String plan = explain(sql);
+            if (allowed == null) {
+                assertThat(plan).as("plan of %s", sql).doesNotContain(".tableScan");
+            }
+        }
+    }
+
+    // EXPLAIN with every parameter bound to NULL; H2 chooses the access path when the statement is prepared
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    return rs.getString(1);
+                }
+            }
+        });
+    }
+
+    private Map<String, Runnable> probes() {
+        LocalDateTime now = LocalDateTime.now();
+        Limit page = Limit.of(50);
+
+        Map<String, Runnable> probes = new LinkedHashMap<>();
+        probes.put("StudentRepository.findByEmail", () -> students.findByEmail("john.doe@email.com"));
+        probes.put("StudentRepository.findByStatus", () -> students.findByStatus(StudentStatus.INACTIVE));
+        probes.put("StudentRepository.findByCourse", () -> students.findByCourse("Physics"));
+        probes.put("StudentRepository.searchStudents", () -> students.searchStudents("garcia"));
+        probes.put("StudentRepository.findByIdGreaterThanOrderByIdAsc", () -> students.findByIdGreaterThanOrderByIdAsc(100L, page));
+        probes.put("StudentRepository.findByStatusAndIdGreaterThanOrderByIdAsc", () -> students.findByStatusAndIdGreaterThanOrderByIdAsc(StudentStatus.ACTIVE, 100L, page));
+        probes.put("StudentRepository.findByCourseAndIdGreaterThanOrderByIdAsc", () -> students.findByCourseAndIdGreaterThanOrderByIdAsc("Physics", 100L, page));
+        probes.put("StudentRepository.searchStudentsAfter", () -> students.searchStudentsAfter("garcia", 100L, page));
+        probes.put("StudentRepository.findAllByIdIn", () -> students.findAllByIdIn(List.of(1L, 2L, 3L)));
+        probes.put("StudentRepository.findExistingEmails", () -> students.findExistingEmails(List.of("john.doe@email.com")));
+        probes.put("StudentRepository.countActiveStudents", students::countActiveStudents);
+        probes.put("StudentRepository.countEnrolledBetween", () -> students.countEnrolledBetween(now.minusMonths(1), now));
+
+        probes.put("FeeRepository.findByStudent", () -> fees.findByStudent(students.getReferenceById(1L)));
+        probes.put("FeeRepository.findByStudentId", () -> fees.findByStudentId(1L));
+        probes.put("FeeRepository.findByStatus", () -> fees.findByStatus(FeeStatus.PENDING));
+        probes.put("FeeRepository.findByFeeType", () -> fees.findByFeeType(FeeType.LAB));
+        probes.put("FeeRepository.findByIdGreaterThanOrderByIdAsc", () -> fees.findByIdGreaterThanOrderByIdAsc(100L, page));
+        probes.put("FeeRepository.findByStudentIdAndIdGreaterThanOrderByIdAsc", () -> fees.findByStudentIdAndIdGreaterThanOrderByIdAsc(1L, 0L, page));
+        probes.put("FeeRepository.findByStatusAndIdGreaterThanOrderByIdAsc", () -> fees.findByStatusAndIdGreaterThanOrderByIdAsc(FeeStatus.PENDING, 100L, page));
+        probes.put("FeeRepository.findByFeeTypeAndIdGreaterThanOrderByIdAsc", () -> fees.findByFeeTypeAndIdGreaterThanOrderByIdAsc(FeeType.LAB, 100L, page));
+        probes.put("FeeRepository.getTotalFeesCollected", fees::getTotalFeesCollected);
+        probes.put("FeeRepository.getTotalPendingFees", fees::getTotalPendingFees);
+        probes.put("FeeRepository.findPendingFeesByStudentId", () -> fees.findPendingFeesByStudentId(1L));
+        probes.put("FeeRepository.countPendingFees", fees::countPendingFees);
+        probes.put("FeeRepository.findIdsAfter", () -> fees.findIdsAfter(100L, page));
+        probes.put("FeeRepository.markOverdue", () -> fees.markOverdue(FeeStatus.PENDING, 100L, 1100L, now));
+        probes.put("FeeRepository.summarizeByStudentIds", () -> fees.summarizeByStudentIds(List.of(1L, 2L, 3L)));
+
+        probes.put("InquiryRepository.findByStatus", () -> inquiries.findByStatus(InquiryStatus.PENDING));
+        probes.put("InquiryRepository.findByEmail", () -> inquiries.findByEmail("sarah.wilson@email.com"));
+        probes.put("InquiryRepository.countPendingInquiries", inquiries::countPendingInquiries);
+        probes.put("InquiryRepository.findAllOrderByCreatedDateDesc", inquiries::findAllOrderByCreatedDateDesc);
+        probes.put("InquiryRepository.findByIdLessThanOrderByIdDesc", () -> inquiries.findByIdLessThanOrderByIdDesc(Long.MAX_VALUE, page));
+        probes.put("InquiryRepository.findByStatusAndIdLessThanOrderByIdDesc", () -> inquiries.findByStatusAndIdLessThanOrderByIdDesc(InquiryStatus.PENDING, Long.MAX_VALUE, page));
+        probes.put("InquiryRepository.findClaimableIds", () -> inquiries.findClaimableIds(now, page));
+        probes.put("InquiryRepository.claim", () -> inquiries.claim(List.of(1L, 2L), "probe", now.plusMinutes(10), now));
+        probes.put("InquiryRepository.findClaimed", () -> inquiries.findClaimed(List.of(1L, 2L), "probe", now.plusMinutes(10)));
+        probes.put("InquiryRepository.findByIdForUpdate", () -> inquiries.findByIdForUpdate(1L));
+
+        probes.put("ActivityEventRepository.findTopByOrderBySequenceDesc", events::findTopByOrderBySequenceDesc);
+        probes.put("ActivityEventRepository.findAllByOrderBySequenceDesc", () -> events.findAllByOrderBySequenceDesc(page));
+        probes.put("ActivityEventRepository.findBySequenceLessThanOrderBySequenceDesc", () -> events.findBySequenceLessThanOrderBySequenceDesc(100L, page));
+        probes.put("ActivityEventRepository.findBySequenceGreaterThanOrderBySequenceAsc", () -> events.findBySequenceGreaterThanOrderBySequenceAsc(100L, page));
+
+        probes.put("PaymentIdempotencyKeyRepository.deleteCreatedBefore", () -> idempotencyKeys.deleteCreatedBefore(now.minusDays(1)));
+
+        probes.put("PaymentRepository.findByFeeIdOrderByIdAsc", () -> payments.findByFeeIdOrderByIdAsc(1L));
+        probes.put("PaymentRepository.findByStudentIdOrderByIdAsc", () -> payments.findByStudentIdOrderByIdAsc(1L));
+        probes.put("PaymentRepository.findByFeeIdAndIdGreaterThanOrderByIdAsc", () -> payments.findByFeeIdAndIdGreaterThanOrderByIdAsc(1L, 0L, page));
+        probes.put("PaymentRepository.findByStudentIdAndIdGreaterThanOrderByIdAsc", () -> payments.findByStudentIdAndIdGreaterThanOrderByIdAsc(1L, 0L, page));
+        probes.put("JobCheckpointRepository.claim", () -> checkpoints.claim("probe", "probe-node", now.plusMinutes(5), now));
+        probes.put("JobCheckpointRepository.startRun", () -> checkpoints.startRun("probe", "probe-node", now));
+        probes.put("JobCheckpointRepository.advance", () -> checkpoints.advance("probe", "probe-node", 1L, now.plusMinutes(5), now));
+        probes.put("JobCheckpointRepository.finishRun", () -> checkpoints.finishRun("probe", "probe-node", now));
+        probes.put("PaymentRepository.deleteByFeeId", () -> payments.deleteByFeeId(1L));
+        probes.put("PaymentRepository.deleteByStudentId", () -> payments.deleteByStudentId(1L));
+        probes.put("PaymentRepository.sumByFeeIds", () -> payments.sumByFeeIds(List.of(1L, 2L, 3L)));
+        return probes;
+    }
+
+    // Registered as Hibernate's statement inspector: records the SQL of every statement it prepares
+    public static final class Capture implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
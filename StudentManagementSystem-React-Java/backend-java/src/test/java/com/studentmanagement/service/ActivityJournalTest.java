@@ -0,0 +1,74 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.StudentManagementApplication;
+import com.studentmanagement.model.ActivityEvent;
+import com.studentmanagement.service.ResourceVersions.Resource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two nodes on one database, each with its own ring: a quiet node's feed still shows what the other one recorded
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ActivityJournalTest {
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private ActivityJournal journalA;
+    private ActivityJournal journalB;
+
+    @BeforeAll
+    void startNodes() {
+        nodeA = start();
+        nodeB = start();
+        journalA = nodeA.getBean(ActivityJournal.class);
+        journalB = nodeB.getBean(ActivityJournal.class);
+    }
+
+    @AfterAll
+    void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    void quietNodeSeesAnotherNodesEvents() {
+        ActivityEvent own = journalA.record("admission", "Recorded on node A");
+        ResourceVersions versionsA = nodeA.getBean(ResourceVersions.class);
+        String etag = versionsA.etag(Resource.ACTIVITY);
+
+        ActivityEvent first = journalB.record("payment", "Recorded on node B");
+        ActivityEvent second = journalB.record("inquiry", "Recorded on node B again");
+
+        assertThat(journalA.latest(3)).extracting(ActivityEvent::getSequence)
+                .containsExactly(second.getSequence(), first.getSequence(), own.getSequence());
+        assertThat(journalA.since(own.getSequence(), 10)).extracting(ActivityEvent::getSequence)
+                .containsExactly(second.getSequence(), first.getSequence());
+        assertThat(journalA.since(second.getSequence(), 10)).isEmpty();
+        assertThat(versionsA.etag(Resource.ACTIVITY)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void eventsInterleaveAcrossNodes() {
+        ActivityEvent fromB = journalB.record("payment", "Interleaved on node B");
+        ActivityEvent fromA = journalA.record("admission", "Interleaved on node A");
+
+        List<ActivityEvent> sinceB = journalA.since(fromB.getSequence() - 1, 10);
+        assertThat(sinceB).extracting(ActivityEvent::getSequence).containsExactly(fromA.getSequence(), fromB.getSequence());
+        assertThat(journalB.latest(2)).extracting(ActivityEvent::getSequence)
+                .containsExactly(fromA.getSequence(), fromB.getSequence());
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(StudentManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:h2:mem:activity_journal;DB_CLOSE_DELAY=-1");
+    }
+}
@@ -0,0 +1,133 @@
+package com.studentmanagement.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentmanagement.dto.BulkImportResultDto;
+import com.studentmanagement.dto.StudentImportDto;
+import com.studentmanagement.model.Student;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// Each import mixes valid rows with in-file and database duplicates and invalid fees; the valid rows are stored
+// and every other row is reported with its row number
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.datasource.url=jdbc:h2:mem:bulk_import;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class BulkImportServiceTest {
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Rows are file lines (the header is line 1); a repeated email adds the line's fee to the earlier student
+    @Test
+    void importsCsv() {
+        existingStudent("taken@csv.example.org");
+        String csv = String.join("\n",
+            "firstName,lastName,email,phone,dateOfBirth,gender,address,course,feeType,feeAmount,feeDueDate",
+            "Ana,Lima,ana@csv.example.org,+15550001001,2001-01-01,Female,\"1 Main St, Apt 2\",Law,Tuition Fee,500.00,2027-01-31",
+            "Ana,Lima,ana@csv.example.org,+15550001001,2001-01-01,Female,\"1 Main St, Apt 2\",Law,Library Fee,50.00,2027-02-28",
+            "Ben,Ode,ben@csv.example.org,+15550001002,2002-02-02,Male,2 Main St,Physics,,,",
+            "Cai,Wu,taken@csv.example.org,+15550001003,2003-03-03,Male,3 Main St,Law,,,",
+            "Dee,Ray,dee@csv.example.org,+15550001004,2004-04-04,Female,4 Main St,Law,Tuition Fee,abc,2027-01-31",
+            "Eve,Sun,eve@csv.example.org,+15550001005,2005-05-05,Female,5 Main St,Law,Tuition Fee,-10.00,2027-01-31",
+            "Fay,Kim,fay@csv.example.org,+15550001006,2006-06-06,Female,6 Main St,Law,Parking Fee,10.00,2027-01-31");
+
+        BulkImportResultDto result = bulkImportService.importCsv(csv, 2);
+
+        assertThat(result.getTotalRows()).isEqualTo(6);
+        assertThat(result.getImportedStudents()).isEqualTo(2);
+        assertThat(result.getImportedFees()).isEqualTo(2);
+        assertThat(result.getErrors())
+                .extracting(BulkImportResultDto.RowError::getRow, BulkImportResultDto.RowError::getEmail)
+                .containsExactly(
+                    tuple(5, "taken@csv.example.org"),
+                    tuple(6, "dee@csv.example.org"),
+                    tuple(7, "eve@csv.example.org"),
+                    tuple(8, "fay@csv.example.org"));
+        assertThat(result.getErrors()).extracting(BulkImportResultDto.RowError::getMessage).satisfiesExactly(
+            message -> assertThat(message).isEqualTo("Student with email taken@csv.example.org already exists"),
+            message -> assertThat(message).isEqualTo("Line 6: invalid fee amount or due date"),
+            message -> assertThat(message).isEqualTo("Amount must be greater than 0"),
+            message -> assertThat(message).contains("Unknown FeeType 'Parking Fee'"));
+
+        assertThat(studentsIn("csv.example.org")).isEqualTo(3);
+        assertThat(feesOf("ana@csv.example.org")).isEqualTo(2);
+        assertThat(feesOf("ben@csv.example.org")).isZero();
+    }
+
+    // Rows are positions in the array, from 1; a repeated email is an error
+    @Test
+    void importsJson() throws Exception {
+        existingStudent("taken@json.example.org");
+        String json = "[" + String.join(",",
+            student("Ana", "ana@json.example.org", "{\"feeType\":\"Tuition Fee\",\"amount\":500.00,\"dueDate\":\"2027-01-31T00:00:00\"}"),
+            student("Ben", "ben@json.example.org", null),
+            student("Ana", "ana@json.example.org", null),
+            student("Cai", "taken@json.example.org", null),
+            student("Dee", "dee@json.example.org", "{\"feeType\":\"Tuition Fee\",\"amount\":0,\"dueDate\":\"2027-01-31T00:00:00\"}"),
+            student("Eve", "eve@json.example.org", "{\"feeType\":\"Parking Fee\",\"amount\":10.00,\"dueDate\":\"2027-01-31T00:00:00\"}"),
+            student("Fay", "fay@json.example.org", "{\"feeType\":\"Lab Fee\",\"dueDate\":\"2027-01-31T00:00:00\"}")) + "]";
+        List<StudentImportDto> students = objectMapper.readValue(json, new TypeReference<List<StudentImportDto>>() {});
+
+        BulkImportResultDto result = bulkImportService.importStudents(students, null);
+
+        assertThat(result.getTotalRows()).isEqualTo(7);
+        assertThat(result.getImportedStudents()).isEqualTo(2);
+        assertThat(result.getImportedFees()).isEqualTo(1);
+        assertThat(result.getErrors())
+                .extracting(BulkImportResultDto.RowError::getRow, BulkImportResultDto.RowError::getEmail)
+                .containsExactly(
+                    tuple(3, "ana@json.example.org"),
+                    tuple(4, "taken@json.example.org"),
+                    tuple(5, "dee@json.example.org"),
+                    tuple(6, "eve@json.example.org"),
+                    tuple(7, "fay@json.example.org"));
+        assertThat(result.getErrors()).extracting(BulkImportResultDto.RowError::getMessage).satisfiesExactly(
+            message -> assertThat(message).isEqualTo("Duplicate email in import: ana@json.example.org"),
+            message -> assertThat(message).isEqualTo("Student with email taken@json.example.org already exists"),
+            message -> assertThat(message).isEqualTo("Amount must be greater than 0"),
+            message -> assertThat(message).contains("Unknown FeeType 'Parking Fee'"),
+            message -> assertThat(message).isEqualTo("Amount is required"));
+
+        assertThat(studentsIn("json.example.org")).isEqualTo(3);
+        assertThat(feesOf("ana@json.example.org")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT first_name FROM students WHERE email = ?", String.class,
+                "ana@json.example.org")).isEqualTo("Ana");
+    }
+
+    private void existingStudent(String email) {
+        studentService.createStudent(new Student("Already", "Here", email, "+15550001000", "2000-01-01",
+                "Female", "9 Main St", "Law"));
+    }
+
+    private static String student(String firstName, String email, String fee) {
+        return "{\"firstName\":\"" + firstName + "\",\"lastName\":\"Test\",\"email\":\"" + email + "\"," +
+                "\"phone\":\"+15550002000\",\"dateOfBirth\":\"2001-01-01\",\"gender\":\"Female\"," +
+                "\"address\":\"1 Main St\",\"course\":\"Law\",\"fees\":[" + (fee != null ? fee : "") + "]}";
+    }
+
+    private long studentsIn(String domain) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM students WHERE email LIKE ?", Long.class, "%@" + domain);
+    }
+
+    private long feesOf(String email) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM fees f JOIN students s ON s.id = f.student_id " +
+                "WHERE s.email = ?", Long.class, email);
+    }
+}
@@ -0,0 +1,187 @@
+package com.studentmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentmanagement.StudentManagementApplication;
+import com.studentmanagement.dto.PaymentRequestDto;
+import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.FeeType;
+import com.studentmanagement.model.Student;
+import com.studentmanagement.repository.FeeRepository;
+import com.studentmanagement.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.datasource.url=" + FeeServiceTest.DATABASE_URL)
+@ActiveProfiles("test")
+class FeeServiceTest {
+
+    static final String DATABASE_URL = "jdbc:h2:mem:fee_service;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private FeeService feeService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @SpyBean
+    private FeeRepository feeRepository;
+
+    @Test
+    void versionStaysOutOfJson() throws Exception {
+        Fee fee = newFee("100.00");
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(fee)).has("version")).isFalse();
+
+        Fee parsed = objectMapper.readValue("{\"feeType\":\"Tuition Fee\",\"amount\":100,\"version\":42}", Fee.class);
+        assertThat(parsed.getVersion()).isNull();
+    }
+
+    @Test
+    void paymentOverTheRemainingAmountIsRejected() {
+        Fee fee = newFee("100.00");
+        feeService.processPayment(fee.getId(), payment("60.00"));
+
+        assertThatThrownBy(() -> feeService.processPayment(fee.getId(), payment("50.00")))
+                .hasMessageContaining("cannot exceed remaining amount");
+        assertPaid(fee.getId(), "60.00", FeeStatus.PARTIALLY_PAID);
+    }
+
+    // Two nodes on one database share no fee lock, so their payments meet at the version check. Whatever wins,
+    // the fee is never paid past its amount and every accepted payment is in the ledger
+    @Test
+    void concurrentPaymentsFromTwoNodesNeverOvershoot() throws Exception {
+        Fee fee = newFee("100.00");
+        int payments = 16;
+        try (ConfigurableApplicationContext otherNode = new SpringApplicationBuilder(StudentManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=" + DATABASE_URL)) {
+            FeeService[] nodes = {feeService, otherNode.getBean(FeeService.class)};
+            ExecutorService pool = Executors.newFixedThreadPool(payments);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < payments; i++) {
+                FeeService node = nodes[i % nodes.length];
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        node.processPayment(fee.getId(), payment("10.00"));
+                        return "paid";
+                    } catch (RuntimeException e) {
+                        return e.getMessage();
+                    }
+                }));
+            }
+            start.countDown();
+            int paid = 0;
+            for (Future<String> result : results) {
+                String outcome = result.get();
+                if (outcome.equals("paid")) {
+                    paid++;
+                } else {
+                    assertThat(outcome).containsAnyOf("cannot exceed remaining amount", "being updated concurrently");
+                }
+            }
+            pool.shutdown();
+
+            assertThat(paid).isBetween(1, 10);
+            BigDecimal expected = BigDecimal.TEN.multiply(BigDecimal.valueOf(paid));
+            assertThat(jdbcTemplate.queryForObject("SELECT paid_amount FROM fees WHERE id = ?", BigDecimal.class, fee.getId()))
+                    .isEqualByComparingTo(expected);
+            assertThat(jdbcTemplate.queryForObject("SELECT SUM(amount) FROM payments WHERE fee_id = ?", BigDecimal.class, fee.getId()))
+                    .isEqualByComparingTo(expected);
+        }
+    }
+
+    @Test
+    void versionConflictIsRetried() {
+        Fee fee = newFee("100.00");
+        ObjectOptimisticLockingFailureException conflict = new ObjectOptimisticLockingFailureException(Fee.class, fee.getId());
+        // The spy's default answer hands the call on to the real repository
+        Answer<?> real = mockingDetails(feeRepository).getMockCreationSettings().getDefaultAnswer();
+        doThrow(conflict).doThrow(conflict).doAnswer(real).when(feeRepository).saveAndFlush(any());
+
+        feeService.processPayment(fee.getId(), payment("40.00"));
+
+        verify(feeRepository, times(3)).saveAndFlush(any());
+        assertPaid(fee.getId(), "40.00", FeeStatus.PARTIALLY_PAID);
+    }
+
+    @Test
+    void retriesGiveUpAfterFiveConflicts() {
+        Fee fee = newFee("100.00");
+        doThrow(new ObjectOptimisticLockingFailureException(Fee.class, fee.getId())).when(feeRepository).saveAndFlush(any());
+
+        assertThatThrownBy(() -> feeService.processPayment(fee.getId(), payment("40.00")))
+                .hasMessageContaining("being updated concurrently");
+
+        verify(feeRepository, times(5)).saveAndFlush(any());
+        assertPaid(fee.getId(), "0.00", FeeStatus.PENDING);
+    }
+
+    @Test
+    void deletingAFeeDeletesItsPayments() {
+        Fee fee = newFee("100.00");
+        Fee kept = newFee("100.00");
+        feeService.processPayment(fee.getId(), payment("30.00"));
+        feeService.processPayment(fee.getId(), payment("20.00"));
+        feeService.processPayment(kept.getId(), payment("10.00"));
+
+        feeService.deleteFee(fee.getId());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payments WHERE fee_id = ?", Long.class, fee.getId()))
+                .isZero();
+        assertPaid(kept.getId(), "10.00", FeeStatus.PARTIALLY_PAID);
+    }
+
+    private Fee newFee(String amount) {
+        Student student = studentRepository.findAll().get(0);
+        return feeService.createFee(new Fee(student, FeeType.TUITION, new BigDecimal(amount), LocalDateTime.now().plusMonths(1)));
+    }
+
+    private static PaymentRequestDto payment(String amount) {
+        return new PaymentRequestDto(new BigDecimal(amount), "Card");
+    }
+
+    // Read from the table, past the second-level cache
+    private void assertPaid(Long feeId, String amount, FeeStatus status) {
+        assertThat(jdbcTemplate.queryForObject("SELECT paid_amount FROM fees WHERE id = ?", BigDecimal.class, feeId))
+                .isEqualByComparingTo(amount);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM fees WHERE id = ?", Integer.class, feeId))
+                .isEqualTo((int) status.getCode());
+        assertThat(jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount), 0) FROM payments WHERE fee_id = ?",
+                BigDecimal.class, feeId)).isEqualByComparingTo(amount);
+    }
+}
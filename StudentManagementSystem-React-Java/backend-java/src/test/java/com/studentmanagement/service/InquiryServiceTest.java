@@ -0,0 +1,134 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.model.Inquiry;
+import com.studentmanagement.model.InquiryStatus;
+import com.studentmanagement.repository.InquiryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.datasource.url=jdbc:h2:mem:inquiry_service;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class InquiryServiceTest {
+
+    @Autowired
+    private InquiryService inquiryService;
+
+    @Autowired
+    private InquiryRepository inquiryRepository;
+
+    @Test
+    void uiResponseOverridesALiveLease() {
+        Inquiry inquiry = leasedTo("desk-a");
+
+        inquiryService.respondToInquiry(inquiry.getId(), "Answered at the front desk");
+
+        Inquiry responded = inquiryRepository.findById(inquiry.getId()).orElseThrow();
+        assertThat(responded.getStatus()).isEqualTo(InquiryStatus.RESPONDED);
+        assertThat(responded.getResponse()).isEqualTo("Answered at the front desk");
+        assertThat(responded.getLeaseOwner()).isNull();
+        assertThatThrownBy(() -> inquiryService.renewLease(inquiry.getId(), "desk-a"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void otherWorkerIsRefusedWhileLeased() {
+        Inquiry inquiry = leasedTo("desk-a");
+
+        assertThatThrownBy(() -> inquiryService.respondToInquiry(inquiry.getId(), "Answered twice", "desk-b"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("being handled by desk-a");
+
+        Inquiry untouched = inquiryRepository.findById(inquiry.getId()).orElseThrow();
+        assertThat(untouched.getStatus()).isEqualTo(InquiryStatus.PENDING);
+        assertThat(untouched.getResponse()).isNull();
+        assertThat(untouched.getLeaseOwner()).isEqualTo("desk-a");
+    }
+
+    @Test
+    void leaseHolderResponds() {
+        Inquiry inquiry = leasedTo("desk-a");
+
+        inquiryService.respondToInquiry(inquiry.getId(), "Answered from the queue", "desk-a");
+
+        Inquiry responded = inquiryRepository.findById(inquiry.getId()).orElseThrow();
+        assertThat(responded.getStatus()).isEqualTo(InquiryStatus.RESPONDED);
+        assertThat(responded.getLeaseOwner()).isNull();
+    }
+
+    @Test
+    void unleasedInquiryTakesEitherResponse() {
+        Inquiry fromUi = newInquiry();
+        Inquiry fromWorker = newInquiry();
+
+        inquiryService.respondToInquiry(fromUi.getId(), "Answered at the front desk");
+        inquiryService.respondToInquiry(fromWorker.getId(), "Answered from the queue", "desk-b");
+
+        assertThat(inquiryRepository.findById(fromUi.getId()).orElseThrow().getStatus()).isEqualTo(InquiryStatus.RESPONDED);
+        assertThat(inquiryRepository.findById(fromWorker.getId()).orElseThrow().getStatus()).isEqualTo(InquiryStatus.RESPONDED);
+    }
+
+    @Test
+    void otherWorkerCannotEditWhileLeased() {
+        Inquiry inquiry = leasedTo("desk-a");
+
+        assertThatThrownBy(() -> inquiryService.updateInquiry(inquiry.getId(), edited(inquiry, InquiryStatus.CLOSED), "desk-b"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("being handled by desk-a");
+
+        Inquiry untouched = inquiryRepository.findById(inquiry.getId()).orElseThrow();
+        assertThat(untouched.getStatus()).isEqualTo(InquiryStatus.PENDING);
+        assertThat(untouched.getLeaseOwner()).isEqualTo("desk-a");
+    }
+
+    @Test
+    void uiEditOutOfPendingEndsTheLease() {
+        Inquiry inquiry = leasedTo("desk-a");
+
+        inquiryService.updateInquiry(inquiry.getId(), edited(inquiry, InquiryStatus.CLOSED));
+
+        Inquiry closed = inquiryRepository.findById(inquiry.getId()).orElseThrow();
+        assertThat(closed.getStatus()).isEqualTo(InquiryStatus.CLOSED);
+        assertThat(closed.getLeaseOwner()).isNull();
+        assertThat(closed.getLeaseExpiresAt()).isNull();
+        assertThatThrownBy(() -> inquiryService.renewLease(inquiry.getId(), "desk-a"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void editThatStaysPendingKeepsTheLease() {
+        Inquiry inquiry = leasedTo("desk-a");
+        Inquiry details = edited(inquiry, InquiryStatus.PENDING);
+        details.setSubject("Admission (updated)");
+
+        inquiryService.updateInquiry(inquiry.getId(), details, "desk-a");
+
+        Inquiry updated = inquiryRepository.findById(inquiry.getId()).orElseThrow();
+        assertThat(updated.getSubject()).isEqualTo("Admission (updated)");
+        assertThat(updated.getLeaseOwner()).isEqualTo("desk-a");
+    }
+
+    private static Inquiry edited(Inquiry inquiry, InquiryStatus status) {
+        Inquiry details = new Inquiry(inquiry.getName(), inquiry.getEmail(), inquiry.getPhone(),
+                inquiry.getSubject(), inquiry.getMessage());
+        details.setStatus(status);
+        return details;
+    }
+
+    private Inquiry newInquiry() {
+        return inquiryService.createInquiry(new Inquiry("Sam Lee", "sam.lee@example.org", "+15550000000",
+                "Admission", "When does the next intake start?"));
+    }
+
+    // Claims the whole (small) pending queue, which includes the new inquiry
+    private Inquiry leasedTo(String worker) {
+        Inquiry inquiry = newInquiry();
+        assertThat(inquiryService.claimPending(worker, 100)).extracting(Inquiry::getId).contains(inquiry.getId());
+        return inquiry;
+    }
+}
@@ -0,0 +1,70 @@
+package com.studentmanagement.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Another node's claim on the job is played by writing the checkpoint row directly
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.datasource.url=jdbc:h2:mem:overdue_fee_service;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class OverdueFeeServiceTest {
+
+    @Autowired
+    private OverdueFeeService overdueFeeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // A finished run, and nobody holding the job
+    @BeforeEach
+    void finishedRun() {
+        jdbcTemplate.update("UPDATE job_checkpoints SET run_owner = NULL, claimed_until = NULL, run_started = NULL " +
+                "WHERE job_name = ?", OverdueFeeService.JOB_NAME);
+        overdueFeeService.markOverdueFees();
+    }
+
+    @Test
+    void liveClaimElsewhereSkipsTheRun() {
+        LocalDateTime claimedUntil = LocalDateTime.now().plusMinutes(5);
+        jdbcTemplate.update("UPDATE job_checkpoints SET run_owner = 'other-node', claimed_until = ?, " +
+                "run_started = CURRENT_TIMESTAMP, last_id = 0 WHERE job_name = ?", claimedUntil, OverdueFeeService.JOB_NAME);
+
+        assertThatThrownBy(() -> overdueFeeService.markOverdueFees())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("running on another node");
+        overdueFeeService.scheduledRun();
+
+        Map<String, Object> row = checkpoint();
+        assertThat(row.get("run_owner")).isEqualTo("other-node");
+        assertThat(row.get("last_id")).isEqualTo(0L);
+    }
+
+    @Test
+    void lapsedClaimIsTakenOverAndFinished() {
+        jdbcTemplate.update("UPDATE job_checkpoints SET run_owner = 'dead-node', claimed_until = ?, " +
+                "run_started = CURRENT_TIMESTAMP, last_id = 0 WHERE job_name = ?",
+                LocalDateTime.now().minusSeconds(1), OverdueFeeService.JOB_NAME);
+
+        overdueFeeService.markOverdueFees();
+
+        Map<String, Object> row = checkpoint();
+        assertThat(row.get("run_owner")).isNull();
+        assertThat(row.get("claimed_until")).isNull();
+        assertThat(row.get("run_started")).isNull();
+        assertThat((Long) row.get("last_id")).isEqualTo(jdbcTemplate.queryForObject("SELECT MAX(id) FROM fees", Long.class));
+    }
+
+    private Map<String, Object> checkpoint() {
+        return jdbcTemplate.queryForMap("SELECT run_owner, claimed_until, run_started, last_id FROM job_checkpoints " +
+                "WHERE job_name = ?", OverdueFeeService.JOB_NAME);
+    }
+}
@@ -0,0 +1,54 @@
+package com.studentmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.datasource.url=jdbc:h2:mem:parallel_query;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+class ParallelQueryExecutorTest {
+
+    @Autowired
+    private ParallelQueryExecutor queryExecutor;
+
+    @Test
+    void failuresAreLoggedAndKeptApartFromTimeouts(CapturedOutput output) {
+        ParallelQueryExecutor.Batch batch = queryExecutor.batch(500)
+                .submit("answered", () -> 42L)
+                .submit("broken", () -> {
+                    throw new IllegalStateException("table is gone");
+                })
+                .submit("slow", () -> {
+                    sleep(2_000);
+                    return 1L;
+                });
+
+        Long answered = batch.get("answered");
+        Long broken = batch.get("broken");
+        Long slow = batch.get("slow");
+
+        assertThat(answered).isEqualTo(42L);
+        assertThat(broken).isNull();
+        assertThat(slow).isNull();
+        assertThat(batch.getFailed()).containsExactly("broken");
+        assertThat(batch.getStale()).containsExactly("slow");
+        assertThat(batch.isComplete()).isFalse();
+        assertThat(output).contains("Aggregate query broken failed", "IllegalStateException: table is gone");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.StudentManagementApplication;
+import com.studentmanagement.model.Student;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two nodes on one database: students created, renamed and deleted on one node show up in the other's index
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StudentSearchIndexTest {
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private StudentSearchIndex indexA;
+    private StudentService studentsB;
+
+    @BeforeAll
+    void startNodes() {
+        nodeA = start();
+        nodeB = start();
+        indexA = nodeA.getBean(StudentSearchIndex.class);
+        studentsB = nodeB.getBean(StudentService.class);
+        indexA.load();
+    }
+
+    @AfterAll
+    void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    void followsAnotherNodesWrites() throws InterruptedException {
+        Student student = studentsB.createStudent(new Student("Quillon", "Marsh", "quillon.marsh@example.org",
+                "+15550000002", "2002-06-11", "Male", "3 Main St", "Law"));
+        awaitSearch("quillon", ids -> ids.contains(student.getId()));
+
+        student.setFirstName("Zephyrine");
+        student.setEmail("zephyrine.marsh@example.org");
+        studentsB.updateStudent(student.getId(), student);
+        awaitSearch("zephyrine", ids -> ids.contains(student.getId()));
+        assertThat(indexA.search("quillon", 10).orElseThrow()).doesNotContain(student.getId());
+
+        studentsB.deleteStudent(student.getId());
+        awaitSearch("zephyrine", ids -> !ids.contains(student.getId()));
+    }
+
+    @Test
+    void reloadDropsStudentsNoLongerInTheTable() {
+        Student student = nodeA.getBean(StudentService.class).createStudent(new Student("Ottoline", "Fairweather",
+                "ottoline.fairweather@example.org", "+15550000003", "2003-02-20", "Female", "4 Main St", "Law"));
+        assertThat(indexA.search("ottoline", 10).orElseThrow()).contains(student.getId());
+        // Behind every node's back
+        nodeA.getBean(JdbcTemplate.class).update("DELETE FROM students WHERE id = ?", student.getId());
+
+        indexA.load();
+
+        assertThat(indexA.search("ottoline", 10).orElseThrow()).doesNotContain(student.getId());
+    }
+
+    // Remote changes are applied in the background
+    private void awaitSearch(String term, Predicate<List<Long>> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        Optional<List<Long>> ids = indexA.search(term, 10);
+        while (!(ids.isPresent() && condition.test(ids.get())) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            ids = indexA.search(term, 10);
+        }
+        assertThat(ids).as("search for %s on node A", term).hasValueSatisfying(found -> assertThat(condition).accepts(found));
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(StudentManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:h2:mem:student_search_index;DB_CLOSE_DELAY=-1");
+    }
+}
@@ -0,0 +1,60 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.dto.PaymentRequestDto;
+import com.studentmanagement.model.Fee;
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.FeeType;
+import com.studentmanagement.model.Student;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.datasource.url=jdbc:h2:mem:student_service;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class StudentServiceTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private FeeService feeService;
+
+    @Autowired
+    private DashboardStatsCounters statsCounters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deletingAStudentTakesItsPaidFeesAndPaymentsWithIt() {
+        Student student = studentService.createStudent(new Student("Dana", "Reyes", "dana.reyes@example.org",
+                "+15550000001", "2001-04-02", "Female", "2 Main St", "Law"));
+        Fee paid = feeService.createFee(new Fee(student, FeeType.TUITION, new BigDecimal("250.00"),
+                LocalDateTime.now().plusMonths(1)));
+        feeService.processPayment(paid.getId(), new PaymentRequestDto(new BigDecimal("250.00"), "Card"));
+        Fee partial = feeService.createFee(new Fee(student, FeeType.TUITION, new BigDecimal("100.00"),
+                LocalDateTime.now().plusMonths(1)));
+        feeService.processPayment(partial.getId(), new PaymentRequestDto(new BigDecimal("40.00"), "Card"));
+        BigDecimal before = statsCounters.snapshot().getFeesCollected();
+
+        studentService.deleteStudent(student.getId());
+
+        assertThat(statsCounters.snapshot().getFeesCollected()).isEqualByComparingTo(before.subtract(new BigDecimal("250.00")));
+        assertThat(statsCounters.snapshot().getFeesCollected()).isEqualByComparingTo(collectedInTable());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payments WHERE student_id = ?", Long.class,
+                student.getId())).isZero();
+    }
+
+    // The sum the dashboard would get from a reconcile
+    private BigDecimal collectedInTable() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(paid_amount), 0) FROM fees WHERE status = ?",
+                BigDecimal.class, (int) FeeStatus.PAID.getCode());
+    }
+}
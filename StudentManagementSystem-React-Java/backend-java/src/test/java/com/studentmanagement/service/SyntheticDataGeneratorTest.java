@@ -0,0 +1,134 @@
+package com.studentmanagement.service;
+
+import com.studentmanagement.StudentManagementApplication;
+import com.studentmanagement.model.FeeStatus;
+import com.studentmanagement.model.Student;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The synthetic data generator (sample-data.students):
+// - the same seed gives the same rows with one worker and with four
+// - every fee's paid amount and status agree with its ledger and due date; rebuilding the snapshots repairs nothing
+// - ids handed out after the load do not collide with generated ones
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SyntheticDataGeneratorTest {
+
+    private static final String REFERENCE_DATE = "2026-01-15";
+    private static final String REFERENCE = "TIMESTAMP '" + REFERENCE_DATE + " 00:00:00'";
+    private static final int STUDENTS = 5_000;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private String oneWorker;
+
+    @BeforeAll
+    void generate() {
+        context = start("sample_one_worker", 1);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        // Before any test adds rows of its own
+        oneWorker = fingerprint(jdbcTemplate);
+    }
+
+    @AfterAll
+    void close() {
+        context.close();
+    }
+
+    @Test
+    void sameRowsWithFourWorkers() {
+        try (ConfigurableApplicationContext parallel = start("sample_four_workers", 4)) {
+            assertThat(fingerprint(parallel.getBean(JdbcTemplate.class))).isEqualTo(oneWorker);
+        }
+    }
+
+    @Test
+    void generatesTheConfiguredSizes() {
+        assertThat(count("SELECT COUNT(*) FROM students")).isEqualTo(STUDENTS);
+        assertThat(count("SELECT COUNT(*) FROM fees")).isEqualTo(STUDENTS * 5L);
+        assertThat(count("SELECT COUNT(*) FROM inquiries")).isEqualTo(STUDENTS / 10L);
+    }
+
+    @Test
+    void paidAmountsMatchTheLedger() {
+        assertThat(count("SELECT COUNT(*) FROM fees f WHERE " +
+                "f.paid_amount <> COALESCE((SELECT SUM(p.amount) FROM payments p WHERE p.fee_id = f.id), 0)")).isZero();
+        assertThat(context.getBean(FeeService.class).rebuildPaymentSnapshots()).isZero();
+    }
+
+    @Test
+    void statusesMatchAmountsAndDueDates() {
+        assertThat(count("SELECT COUNT(*) FROM fees WHERE NOT (" +
+                "(status = " + FeeStatus.PAID.getCode() + " AND paid_amount = amount) OR " +
+                "(status = " + FeeStatus.OVERDUE.getCode() + " AND paid_amount < amount AND due_date < " + REFERENCE + ") OR " +
+                "(status = " + FeeStatus.PARTIALLY_PAID.getCode() + " AND paid_amount > 0 AND paid_amount < amount " +
+                "AND due_date >= " + REFERENCE + ") OR " +
+                "(status = " + FeeStatus.PENDING.getCode() + " AND paid_amount = 0 AND due_date >= " + REFERENCE + "))"))
+                .isZero();
+    }
+
+    @Test
+    void nothingAfterTheReferenceDate() {
+        assertThat(count("SELECT " +
+                "(SELECT COUNT(*) FROM students WHERE enrollment_date > " + REFERENCE + ") + " +
+                "(SELECT COUNT(*) FROM fees WHERE created_date > " + REFERENCE + " OR paid_date > " + REFERENCE + ") + " +
+                "(SELECT COUNT(*) FROM inquiries WHERE created_date > " + REFERENCE + ")")).isZero();
+    }
+
+    @Test
+    void nextIdFollowsTheLoad() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM students", Long.class);
+        Student student = new Student("Next", "Student", "next.student@example.com", "+12345678901",
+                "2000-01-01", "Female", "1 Main St", "Law");
+        StudentService students = context.getBean(StudentService.class);
+        Long id = students.createStudent(student).getId();
+        // Gone again before the size checks count the rows
+        students.deleteStudent(id);
+        assertThat(id).isGreaterThan(maxId);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    // Generated by DataInitializer on startup, as in development
+    private static ConfigurableApplicationContext start(String database, int workers) {
+        return new SpringApplicationBuilder(StudentManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                        "--sample-data.students=" + STUDENTS,
+                        "--sample-data.reference-date=" + REFERENCE_DATE,
+                        "--sample-data.workers=" + workers);
+    }
+
+    // Every generated row, in id order
+    private static String fingerprint(JdbcTemplate jdbcTemplate) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String table : new String[] {"students", "fees", "payments", "inquiries"}) {
+                jdbcTemplate.query("SELECT * FROM " + table + " ORDER BY id", rs -> {
+                    int columns = rs.getMetaData().getColumnCount();
+                    for (int i = 1; i <= columns; i++) {
+                        digest.update(String.valueOf(rs.getObject(i)).getBytes(StandardCharsets.UTF_8));
+                        digest.update((byte) 0);
+                    }
+                });
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
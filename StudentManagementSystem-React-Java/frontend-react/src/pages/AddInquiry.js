@@ -13,7 +13,7 @@ const AddInquiry = () => {
     phoneNumber: '',
     subject: '',
     message: '',
-    status: 'Open'
+    status: 'Pending'
   });
 
   const handleChange = (e) => {
@@ -129,9 +129,8 @@ const AddInquiry = () => {
                 onChange={handleChange}
                 className="form-input"
               >
-                <option value="Open">Open</option>
-                <option value="In_Progress">In Progress</option>
-                <option value="Resolved">Resolved</option>
+                <option value="Pending">Pending</option>
+                <option value="Responded">Responded</option>
                 <option value="Closed">Closed</option>
               </select>
             </div>
@@ -203,7 +202,7 @@ const AddInquiry = () => {
         <h3>Contact Information</h3>
         <div className="contact-details">
           <p><strong>Response Time:</strong> We typically respond within 24-48 hours</p>
-          <p><strong>Priority Inquiries:</strong> Mark as "In Progress" for urgent matters</p>
+          <p><strong>Priority Inquiries:</strong> Leave as "Pending" until someone has replied</p>
           <p><strong>Follow-up:</strong> You can track your inquiry status in the inquiries section</p>
         </div>
       </div>
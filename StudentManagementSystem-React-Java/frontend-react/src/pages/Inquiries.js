@@ -77,11 +77,9 @@ const Inquiries = () => {
 
   const getStatusBadgeClass = (status) => {
     switch (status.toLowerCase()) {
-      case 'open':
+      case 'pending':
         return 'status-badge status-open';
-      case 'in_progress':
-        return 'status-badge status-progress';
-      case 'resolved':
+      case 'responded':
         return 'status-badge status-resolved';
       case 'closed':
         return 'status-badge status-closed';
@@ -142,9 +140,8 @@ const Inquiries = () => {
               className="filter-select"
             >
               <option value="all">All Status</option>
-              <option value="open">Open</option>
-              <option value="in_progress">In Progress</option>
-              <option value="resolved">Resolved</option>
+              <option value="pending">Pending</option>
+              <option value="responded">Responded</option>
               <option value="closed">Closed</option>
             </select>
           </div>
@@ -208,9 +205,8 @@ const Inquiries = () => {
                           onChange={(e) => handleStatusChange(inquiry.id, e.target.value)}
                           className="status-select"
                         >
-                          <option value="Open">Open</option>
-                          <option value="In_Progress">In Progress</option>
-                          <option value="Resolved">Resolved</option>
+                          <option value="Pending">Pending</option>
+                          <option value="Responded">Responded</option>
                           <option value="Closed">Closed</option>
                         </select>
                         <button
@@ -236,21 +232,15 @@ const Inquiries = () => {
         <div className="summary-stats">
           <div className="summary-stat">
             <div className="stat-value">
-              {inquiries.filter(i => i.status.toLowerCase() === 'open').length}
+              {inquiries.filter(i => i.status.toLowerCase() === 'pending').length}
             </div>
-            <div className="stat-label">Open</div>
+            <div className="stat-label">Pending</div>
           </div>
           <div className="summary-stat">
             <div className="stat-value">
-              {inquiries.filter(i => i.status.toLowerCase() === 'in_progress').length}
+              {inquiries.filter(i => i.status.toLowerCase() === 'responded').length}
             </div>
-            <div className="stat-label">In Progress</div>
-          </div>
-          <div className="summary-stat">
-            <div className="stat-value">
-              {inquiries.filter(i => i.status.toLowerCase() === 'resolved').length}
-            </div>
-            <div className="stat-label">Resolved</div>
+            <div className="stat-label">Responded</div>
           </div>
           <div className="summary-stat">
             <div className="stat-value">
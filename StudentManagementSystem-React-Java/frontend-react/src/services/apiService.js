@@ -11,9 +11,15 @@ const api = axios.create({
   },
 });
 
+// Newest write commit time the backend reported; sent back so reads after our own writes see them
+let lastWrite = null;
+
 // Request interceptor
 api.interceptors.request.use(
   (config) => {
+    if (lastWrite) {
+      config.headers['X-Last-Write'] = lastWrite;
+    }
     console.log(`Making ${config.method?.toUpperCase()} request to ${config.url}`);
     return config;
   },
@@ -26,6 +32,10 @@ api.interceptors.request.use(
 // Response interceptor
 api.interceptors.response.use(
   (response) => {
+    const written = response.headers['x-last-write'];
+    if (written && (!lastWrite || Number(written) > Number(lastWrite))) {
+      lastWrite = written;
+    }
     console.log(`Response from ${response.config.url}:`, response.data);
     return response;
   },